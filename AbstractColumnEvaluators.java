@@ -0,0 +1,261 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public abstract class AbstractColumnEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Evaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -1486630735905474120L;
+
+    /*
+     * Base des implémentations qui maintiennent une colonne de clés parallèle au tableau primitif : la clé de l'élément de la position i est rangée à la position i de la colonne.
+     * Chaque mutation appelle le crochet correspondant après avoir modifié le tableau primitif, les sous-classes n'ont qu'à tenir leur colonne à jour et à implémenter indexOf(eval).
+     */
+    protected AbstractColumnEvaluators()
+    {
+        super();
+    }
+
+    protected AbstractColumnEvaluators(Collection<? extends Item> collection)
+    {
+        super(collection);
+    }
+
+    protected AbstractColumnEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        super(evaluator);
+    }
+
+    protected AbstractColumnEvaluators(Item[] array)
+    {
+        super(array);
+    }
+
+    protected AbstractColumnEvaluators(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    /**
+     * Les éléments des positions index à index + count - 1 viennent d'être insérés, les suivants ont été décalés de count positions.
+     * Les éléments insérés ne sont jamais nuls (les ajouts groupés les ignorent comme push) : la clé peut être lue ou extraite sans contrôle.
+     */
+    protected abstract void columnInsert(int index, int count);
+
+    /**
+     * L'élément de la position index vient d'être retiré, les suivants ont reculé d'une position.
+     */
+    protected abstract void columnRemove(int index);
+
+    /**
+     * L'élément de la position index vient d'être remplacé.
+     */
+    protected abstract void columnSet(int index);
+
+    protected abstract void columnReverse();
+
+    protected abstract void columnClear();
+
+    protected abstract void columnTrim();
+
+    /**
+     * Reconstruit entièrement la colonne à partir du tableau primitif.
+     */
+    protected final void rebuild()
+    {
+        columnInsert(0, length());
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        super.push(item);
+        columnInsert(length() - 1, 1);
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        super.push(item, index);
+        if (item == null) return;
+
+        columnInsert(index, 1);
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (indexOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        super.set(item, index);
+        if (item == null) return;
+
+        columnSet(index);
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, indexOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        int length = length();
+        super.pushAll(Evaluations.nonNull(collection));
+
+        if (length() > length) columnInsert(length, length() - length);
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        int length = length();
+        super.pushAll(Evaluations.nonNull(collection), index);
+
+        if (length() > length) columnInsert(index, length() - length);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        int length = length();
+        super.pushAll(Evaluations.<Eval, Item>nonNull(evaluator));
+
+        if (length() > length) columnInsert(length, length() - length);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        int length = length();
+        super.pushAll(Evaluations.<Eval, Item>nonNull(evaluator), index);
+
+        if (length() > length) columnInsert(index, length() - length);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(collection, extractor);
+
+        if (length() > length) columnInsert(length, length() - length);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(evaluator, extractor);
+
+        if (length() > length) columnInsert(length, length() - length);
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        columnClear();
+    }
+
+    @Override
+    public void trim()
+    {
+        super.trim();
+        columnTrim();
+    }
+
+    @Override
+    public void reverse()
+    {
+        super.reverse();
+        columnReverse();
+    }
+
+    @Override
+    public void pop()
+    {
+        if (isEmpty()) return;
+
+        super.pop();
+        columnRemove(length());
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = indexOf(eval);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (isEmpty()) return null;
+
+        Item item = super.acquire();
+        columnRemove(length());
+
+        return item;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (isEmpty()) return null;
+
+        Item item = super.acquireFirst();
+        columnRemove(0);
+
+        return item;
+    }
+
+    @Override
+    public abstract int indexOf(Eval eval);
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(indexOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (!super.remove(index)) return false;
+
+        columnRemove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        try {
+            return super.removeIf(filter);
+        } finally {
+            columnClear();
+            rebuild();
+        }
+    }
+}
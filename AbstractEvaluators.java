@@ -1,4 +1,14 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created on : 27/03/2022
@@ -39,6 +49,18 @@ public abstract class AbstractEvaluators<Eval, Item extends Evaluator.Evaluable<
     @Override
     public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index) {}
 
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        pushAbsent(collection.toArray(), extractor);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        pushAbsent(evaluator.toArray(), extractor);
+    }
+
     @Override
     public void trim() {}
 
@@ -48,6 +70,12 @@ public abstract class AbstractEvaluators<Eval, Item extends Evaluator.Evaluable<
     @Override
     public void pop() {}
 
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        return evaluateEach(evals);
+    }
+
     @Override
     public Item acquire()
     {
@@ -78,6 +106,48 @@ public abstract class AbstractEvaluators<Eval, Item extends Evaluator.Evaluable<
         return new Object[0];
     }
 
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        return indexOfEach(evals);
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        BitSet matches = new BitSet();
+        if (eval == null) return matches;
+
+        final int length = length();
+        for (int i = 0; i < length; i++) if (get(i).toEvaluate(eval)) matches.set(i);
+
+        return matches;
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        return matches(eval).cardinality();
+    }
+
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public Stream<Item> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Stream<Item> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     @Override
     public boolean remove(Eval eval)
     {
@@ -90,9 +160,67 @@ public abstract class AbstractEvaluators<Eval, Item extends Evaluator.Evaluable<
         return false;
     }
 
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        boolean removed = false;
+        for (int i = length() - 1; i >= 0; i--) if (filter.test(get(i)) && remove(i)) removed = true;
+
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Eval eval)
+    {
+        if (eval == null) return false;
+
+        return removeIf(item -> item.toEvaluate(eval));
+    }
+
+    @Override
+    public boolean retainAll(Collection<? extends Eval> evals)
+    {
+        return removeIf(item -> {
+            for (Eval eval : evals) if (eval != null && item.toEvaluate(eval)) return false;
+            return true;
+        });
+    }
+
     @Override
     public Evaluator<Eval, Item> clone()
     {
         return this;
     }
+
+    /*
+     * Un appel à evaluate ou indexOf par évaluation : pour les sous-classes dont la recherche ne parcourt pas les éléments (HashedEvaluators).
+     */
+    final List<Item> evaluateEach(Collection<? extends Eval> evals)
+    {
+        List<Item> items = new ArrayList<>(evals.size());
+        for (Eval eval : evals) items.add(evaluate(eval));
+
+        return items;
+    }
+
+    final int[] indexOfEach(Collection<? extends Eval> evals)
+    {
+        int[] indexes = new int[evals.size()];
+
+        int i = 0;
+        for (Eval eval : evals) indexes[i++] = indexOf(eval);
+
+        return indexes;
+    }
+
+    private void pushAbsent(Object[] items, Function<? super Item, ? extends Eval> extractor)
+    {
+        Object[] current = toArray();
+
+        int count = Evaluations.absent(current, current.length, items, extractor);
+        if (count == 0) return;
+
+        //noinspection unchecked
+        pushAll((List<Item>)(List<?>)Arrays.asList(items).subList(0, count));
+    }
 }
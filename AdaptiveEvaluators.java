@@ -0,0 +1,388 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class AdaptiveEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Evaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 1843906602571935718L;
+    private static final int[] EMPTY_ORDER = {};
+
+    public enum Strategy
+    {
+        /** L'élément trouvé passe en tête de l'ordre d'évaluation. */
+        MOVE_TO_FRONT,
+        /** L'élément trouvé échange sa place avec celui qui le précède dans l'ordre d'évaluation. */
+        TRANSPOSE,
+        /** L'ordre d'évaluation est trié par nombre décroissant de succès. */
+        FREQUENCY
+    }
+
+    /*
+     * Ordre d'évaluation auto-organisé : mOrder[k] est la position (au sens de get(index)) du k-ième élément évalué.
+     * Les positions des éléments ne changent pas, seul l'ordre dans lequel evaluate, indexOf, remove(eval), set(item, eval) et pushIfAbsent les examinent évolue.
+     * mHits[k] compte les succès de l'élément mOrder[k] pour la stratégie FREQUENCY.
+     */
+    private final Strategy mStrategy;
+
+    private int[] mOrder;
+    private int[] mHits;
+
+    public AdaptiveEvaluators(Strategy strategy)
+    {
+        super();
+        mStrategy = validate(strategy);
+        reset();
+    }
+
+    public AdaptiveEvaluators(Collection<? extends Item> collection, Strategy strategy)
+    {
+        super(collection);
+        mStrategy = validate(strategy);
+        reset();
+    }
+
+    public AdaptiveEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator, Strategy strategy)
+    {
+        super(evaluator);
+        mStrategy = validate(strategy);
+        reset();
+    }
+
+    public AdaptiveEvaluators(Item[] array, Strategy strategy)
+    {
+        super(array);
+        mStrategy = validate(strategy);
+        reset();
+    }
+
+    public Strategy strategy()
+    {
+        return mStrategy;
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        super.push(item);
+        appendOrder(length() - 1, 1);
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        super.push(item, index);
+        if (item == null) return;
+
+        shiftOrder(index, 1);
+        appendOrder(index, 1);
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (indexOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, indexOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        int length = length();
+        super.pushAll(collection);
+        appendOrder(length, length() - length);
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        int length = length();
+        super.pushAll(collection, index);
+
+        int count = length() - length;
+        if (count == 0) return;
+
+        shiftOrder(index, count);
+        appendOrder(index, count);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        int length = length();
+        super.pushAll(evaluator);
+        appendOrder(length, length() - length);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        int length = length();
+        super.pushAll(evaluator, index);
+
+        int count = length() - length;
+        if (count == 0) return;
+
+        shiftOrder(index, count);
+        appendOrder(index, count);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(collection, extractor);
+        appendOrder(length, length() - length);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(evaluator, extractor);
+        appendOrder(length, length() - length);
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        reset();
+    }
+
+    @Override
+    public void trim()
+    {
+        super.trim();
+
+        int length = length();
+        if (length < mOrder.length)
+        {
+            mOrder = (length == 0) ? EMPTY_ORDER : Arrays.copyOf(mOrder, length);
+            mHits = (length == 0) ? EMPTY_ORDER : Arrays.copyOf(mHits, length);
+        }
+    }
+
+    @Override
+    public void reverse()
+    {
+        super.reverse();
+
+        final int last = length() - 1;
+        for (int k = 0; k <= last; k++) mOrder[k] = last - mOrder[k];
+    }
+
+    @Override
+    public void pop()
+    {
+        if (isEmpty()) return;
+
+        removeOrder(length() - 1);
+        super.pop();
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = indexOf(eval);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (isEmpty()) return null;
+
+        removeOrder(length() - 1);
+        return super.acquire();
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (isEmpty()) return null;
+
+        removeOrder(0);
+        return super.acquireFirst();
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        final int length = length();
+        for (int k = 0; k < length; k++)
+        {
+            int index = mOrder[k];
+            if (get(index).toEvaluate(eval))
+            {
+                reorganize(k);
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(indexOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (index < 0 || index >= length()) return false;
+
+        removeOrder(index);
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        try {
+            return super.removeIf(filter);
+        } finally {
+            reset();
+        }
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new AdaptiveEvaluators<>(this, mStrategy);
+    }
+
+    /*
+     * L'élément trouvé au rang k de l'ordre d'évaluation se rapproche de la tête selon la stratégie.
+     */
+    private void reorganize(int k)
+    {
+        if (k == 0 && mStrategy != Strategy.FREQUENCY) return;
+
+        int index = mOrder[k];
+        switch (mStrategy) {
+            case MOVE_TO_FRONT:
+                int hits = mHits[k];
+                System.arraycopy(mOrder, 0, mOrder, 1, k);
+                System.arraycopy(mHits, 0, mHits, 1, k);
+                mOrder[0] = index;
+                mHits[0] = hits;
+                break;
+
+            case TRANSPOSE:
+                swap(k, k - 1);
+                break;
+
+            case FREQUENCY:
+                if (++mHits[k] == Integer.MAX_VALUE) for (int i = 0; i < length(); i++) mHits[i] >>>= 1;
+                while (k > 0 && mHits[k] > mHits[k - 1]) {
+                    swap(k, k - 1);
+                    k--;
+                }
+                break;
+        }
+    }
+
+    private void swap(int left, int right)
+    {
+        int index = mOrder[left];
+        mOrder[left] = mOrder[right];
+        mOrder[right] = index;
+
+        int hits = mHits[left];
+        mHits[left] = mHits[right];
+        mHits[right] = hits;
+    }
+
+    /*
+     * Les positions from à from + count - 1 sont ajoutées en fin d'ordre d'évaluation. Les rangs occupés sont ceux de 0 à length() - count - 1.
+     */
+    private void appendOrder(int from, int count)
+    {
+        if (count <= 0) return;
+
+        int length = length();
+        if (length > mOrder.length)
+        {
+            int capacity = Math.max(length, mOrder.length + (mOrder.length >> 1));
+            mOrder = Arrays.copyOf(mOrder, capacity);
+            mHits = Arrays.copyOf(mHits, capacity);
+        }
+
+        int k = length - count;
+        for (int i = 0; i < count; i++, k++)
+        {
+            mOrder[k] = from + i;
+            mHits[k] = 0;
+        }
+    }
+
+    /*
+     * Doit être appelée après l'insertion dans le tableau primitif et avant appendOrder : seuls les rangs déjà occupés sont décalés.
+     */
+    private void shiftOrder(int from, int delta)
+    {
+        final int ranks = length() - delta;
+        for (int k = 0; k < ranks; k++) if (mOrder[k] >= from) mOrder[k] += delta;
+    }
+
+    /*
+     * Doit être appelée avant le retrait de la position index du tableau primitif.
+     */
+    private void removeOrder(int index)
+    {
+        final int ranks = length();
+
+        int target = -1;
+        for (int k = 0; k < ranks; k++)
+        {
+            int position = mOrder[k];
+            if (position == index) target = k;
+            else if (position > index) mOrder[k] = position - 1;
+        }
+        if (target < 0) return;
+
+        int moved = ranks - target - 1;
+        System.arraycopy(mOrder, target + 1, mOrder, target, moved);
+        System.arraycopy(mHits, target + 1, mHits, target, moved);
+    }
+
+    private void reset()
+    {
+        final int length = length();
+
+        mOrder = (length == 0) ? EMPTY_ORDER : new int[length];
+        mHits = (length == 0) ? EMPTY_ORDER : new int[length];
+        for (int k = 0; k < length; k++) mOrder[k] = k;
+    }
+
+    private static Strategy validate(Strategy strategy)
+    {
+        if (strategy == null) throw new IllegalArgumentException("Strategy must not be null");
+
+        return strategy;
+    }
+}
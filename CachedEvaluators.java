@@ -0,0 +1,384 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class CachedEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Evaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -6634178210450027765L;
+
+    /*
+     * Cache borné (LRU) des résultats d'évaluation : eval -> position, -1 pour une évaluation sans résultat.
+     * Les clés sont comparées par equals/hashCode, les types Eval doivent donc les implémenter.
+     * Chaque mutation corrige les positions mémorisées au lieu de vider le cache : décalage après une insertion ou un retrait, suppression des entrées dont l'élément a disparu,
+     * et promotion des résultats négatifs lorsqu'un nouvel élément les satisfait.
+     */
+    private final int mMaximumSize;
+
+    private transient LinkedHashMap<Eval, Integer> mCache;
+    private transient long mHits;
+    private transient long mMisses;
+
+    public CachedEvaluators(int maximumSize)
+    {
+        super();
+        mMaximumSize = validate(maximumSize);
+        mCache = newCache(maximumSize);
+    }
+
+    public CachedEvaluators(Collection<? extends Item> collection, int maximumSize)
+    {
+        super(collection);
+        mMaximumSize = validate(maximumSize);
+        mCache = newCache(maximumSize);
+    }
+
+    public CachedEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator, int maximumSize)
+    {
+        super(evaluator);
+        mMaximumSize = validate(maximumSize);
+        mCache = newCache(maximumSize);
+    }
+
+    public CachedEvaluators(Item[] array, int maximumSize)
+    {
+        super(array);
+        mMaximumSize = validate(maximumSize);
+        mCache = newCache(maximumSize);
+    }
+
+    public long hits()
+    {
+        return mHits;
+    }
+
+    public long misses()
+    {
+        return mMisses;
+    }
+
+    public int cacheSize()
+    {
+        return mCache.size();
+    }
+
+    public void invalidate()
+    {
+        mCache.clear();
+    }
+
+    public void resetStatistics()
+    {
+        mHits = 0L;
+        mMisses = 0L;
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        super.push(item);
+        promote(item, length() - 1);
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        super.push(item, index);
+        if (item == null) return;
+
+        shift(index, 1);
+        promote(item, index);
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (lookup(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        super.set(item, index);
+        if (item == null) return;
+
+        Iterator<Map.Entry<Eval, Integer>> iterator = mCache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Eval, Integer> entry = iterator.next();
+            int cached = entry.getValue();
+
+            if (cached == index && !item.toEvaluate(entry.getKey())) iterator.remove();
+            else if (cached < 0 && item.toEvaluate(entry.getKey())) entry.setValue(index);
+        }
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, lookup(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        int length = length();
+        super.pushAll(collection);
+
+        if (length() > length) dropNegatives();
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        int length = length();
+        super.pushAll(collection, index);
+
+        int count = length() - length;
+        if (count == 0) return;
+
+        shift(index, count);
+        dropNegatives();
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        int length = length();
+        super.pushAll(evaluator);
+
+        if (length() > length) dropNegatives();
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        int length = length();
+        super.pushAll(evaluator, index);
+
+        int count = length() - length;
+        if (count == 0) return;
+
+        shift(index, count);
+        dropNegatives();
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(collection, extractor);
+
+        if (length() > length) dropNegatives();
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(evaluator, extractor);
+
+        if (length() > length) dropNegatives();
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        mCache.clear();
+    }
+
+    @Override
+    public void reverse()
+    {
+        super.reverse();
+
+        final int last = length() - 1;
+        for (Map.Entry<Eval, Integer> entry : mCache.entrySet())
+        {
+            int cached = entry.getValue();
+            if (cached >= 0) entry.setValue(last - cached);
+        }
+    }
+
+    @Override
+    public void pop()
+    {
+        if (isEmpty()) return;
+
+        super.pop();
+        removed(length());
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = lookup(eval);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (isEmpty()) return null;
+
+        Item item = super.acquire();
+        removed(length());
+
+        return item;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (isEmpty()) return null;
+
+        Item item = super.acquireFirst();
+        removed(0);
+
+        return item;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return lookup(eval);
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(lookup(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (!super.remove(index)) return false;
+
+        removed(index);
+        return true;
+    }
+
+    /*
+     * Les positions de tous les éléments conservés peuvent changer : le cache est vidé plutôt que corrigé.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        try {
+            return super.removeIf(filter);
+        } finally {
+            mCache.clear();
+        }
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new CachedEvaluators<>(this, mMaximumSize);
+    }
+
+    private int lookup(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        Integer cached = mCache.get(eval);
+        if (cached != null)
+        {
+            mHits++;
+            return cached;
+        }
+
+        mMisses++;
+        int index = super.indexOf(eval);
+        mCache.put(eval, index);
+
+        return index;
+    }
+
+    /*
+     * Un élément vient d'être inséré à la position index : les évaluations sans résultat qu'il satisfait pointent désormais vers lui.
+     */
+    private void promote(Item item, int index)
+    {
+        for (Map.Entry<Eval, Integer> entry : mCache.entrySet())
+        {
+            if (entry.getValue() < 0 && item.toEvaluate(entry.getKey())) entry.setValue(index);
+        }
+    }
+
+    /*
+     * L'élément de la position index vient d'être retiré : les entrées qui le désignaient sont supprimées, les suivantes reculent d'une position.
+     */
+    private void removed(int index)
+    {
+        Iterator<Map.Entry<Eval, Integer>> iterator = mCache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Eval, Integer> entry = iterator.next();
+            int cached = entry.getValue();
+
+            if (cached == index) iterator.remove();
+            else if (cached > index) entry.setValue(cached - 1);
+        }
+    }
+
+    private void shift(int from, int delta)
+    {
+        for (Map.Entry<Eval, Integer> entry : mCache.entrySet())
+        {
+            int cached = entry.getValue();
+            if (cached >= from) entry.setValue(cached + delta);
+        }
+    }
+
+    private void dropNegatives()
+    {
+        mCache.values().removeIf(cached -> cached < 0);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        mCache = newCache(mMaximumSize);
+    }
+
+    private static <Eval> LinkedHashMap<Eval, Integer> newCache(int maximumSize)
+    {
+        return new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Eval, Integer> eldest)
+            {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    private static int validate(int maximumSize)
+    {
+        if (maximumSize <= 0) throw new IllegalArgumentException("Illegal maximum cache size " + maximumSize);
+
+        return maximumSize;
+    }
+}
@@ -0,0 +1,466 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class CircularEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -5528134779204310126L;
+    private static final Object[] EMPTY_ITEMS = {};
+    private static final int MIN_CAPACITY = 8;
+
+    /*
+     * Tampon circulaire : les éléments occupent les emplacements mHead à mHead + mLength - 1, modulo la capacité.
+     * La capacité est toujours une puissance de deux pour que la position physique se calcule par masque : (mHead + index) & (mItems.length - 1).
+     * push, acquire, acquireFirst, peek et peekFirst sont en temps constant.
+     */
+    private Object[] mItems;
+    private int mHead;
+    private int mLength;
+
+    public CircularEvaluators()
+    {
+        mItems = EMPTY_ITEMS;
+    }
+
+    public CircularEvaluators(Collection<? extends Item> collection)
+    {
+        mItems = EMPTY_ITEMS;
+        pushAll(collection);
+    }
+
+    public CircularEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        mItems = EMPTY_ITEMS;
+        pushAll(evaluator);
+    }
+
+    public CircularEvaluators(Item[] array)
+    {
+        mItems = EMPTY_ITEMS;
+        append(array);
+    }
+
+    public CircularEvaluators(int initialCapacity)
+    {
+        if (initialCapacity > 0) mItems = new Object[capacityFor(initialCapacity)];
+        else if (initialCapacity == 0) mItems = EMPTY_ITEMS;
+        else throw new IllegalArgumentException("Illegal initial capacity " + initialCapacity);
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        ensureCapacity(mLength + 1);
+        mItems[(mHead + mLength) & (mItems.length - 1)] = item;
+        mLength++;
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+        if (item == null) return;
+
+        ensureCapacity(mLength + 1);
+        final int mask = mItems.length - 1;
+
+        /*
+         * Seule la plus petite moitié est décalée : la tête recule d'un emplacement ou la queue avance d'un emplacement.
+         */
+        if (index < mLength / 2)
+        {
+            mHead = (mHead - 1) & mask;
+            for (int i = 0; i < index; i++) mItems[(mHead + i) & mask] = mItems[(mHead + i + 1) & mask];
+        }
+        else
+        {
+            for (int i = mLength; i > index; i--) mItems[(mHead + i) & mask] = mItems[(mHead + i - 1) & mask];
+        }
+
+        mItems[(mHead + index) & mask] = item;
+        mLength++;
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (evaluateOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+        if (item == null) return;
+
+        mItems[(mHead + index) & (mItems.length - 1)] = item;
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, evaluateOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        append(collection.toArray());
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+
+        insert(collection.toArray(), index);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        append(evaluator.toArray());
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+
+        insert(evaluator.toArray(), index);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (mLength <= 0) return;
+
+        final int mask = mItems.length - 1;
+        for (int i = 0; i < mLength; i++) mItems[(mHead + i) & mask] = null;
+
+        mHead = 0;
+        mLength = 0;
+    }
+
+    @Override
+    public void trim()
+    {
+        if (mLength == 0)
+        {
+            mItems = EMPTY_ITEMS;
+            mHead = 0;
+            return;
+        }
+
+        int capacity = capacityFor(mLength);
+        if (capacity < mItems.length) resize(capacity);
+    }
+
+    @Override
+    public void reverse()
+    {
+        final int mask = mItems.length - 1;
+
+        int left = 0;
+        int right = mLength - 1;
+        while (left < right) {
+            int start = (mHead + left++) & mask;
+            int end = (mHead + right--) & mask;
+
+            Object item = mItems[start];
+            mItems[start] = mItems[end];
+            mItems[end] = item;
+        }
+    }
+
+    @Override
+    public void pop()
+    {
+        acquire();
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = evaluateOf(eval);
+        if (index < 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[(mHead + index) & (mItems.length - 1)];
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+mLength);
+        //noinspection unchecked
+        return (Item)mItems[(mHead + index) & (mItems.length - 1)];
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (mLength <= 0) return null;
+
+        final int i = (mHead + --mLength) & (mItems.length - 1);
+        //noinspection unchecked
+        Item item = (Item)mItems[i];
+        mItems[i] = null;
+
+        return item;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (mLength <= 0) return null;
+
+        //noinspection unchecked
+        Item item = (Item)mItems[mHead];
+        mItems[mHead] = null;
+
+        mHead = (mHead + 1) & (mItems.length - 1);
+        if (--mLength == 0) mHead = 0;
+
+        return item;
+    }
+
+    @Override
+    public Item peek()
+    {
+        if (mLength <= 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[(mHead + mLength - 1) & (mItems.length - 1)];
+    }
+
+    public Item peekFirst()
+    {
+        if (mLength <= 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[mHead];
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, mLength);
+        copyTo(items);
+
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        //noinspection unchecked
+        if (items.length < mLength) items = (Item[])Array.newInstance(items.getClass().getComponentType(), mLength);
+
+        copyTo(items);
+        if (items.length > mLength) items[mLength] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] items = new Object[mLength];
+        copyTo(items);
+
+        return items;
+    }
+
+    @Override
+    public int length()
+    {
+        return mLength;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return evaluateOf(eval);
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(evaluateOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (index < 0 || index >= mLength) return false;
+
+        final int mask = mItems.length - 1;
+        if (index < mLength / 2)
+        {
+            for (int i = index; i > 0; i--) mItems[(mHead + i) & mask] = mItems[(mHead + i - 1) & mask];
+
+            mItems[mHead] = null;
+            mHead = (mHead + 1) & mask;
+        }
+        else
+        {
+            for (int i = index; i < mLength - 1; i++) mItems[(mHead + i) & mask] = mItems[(mHead + i + 1) & mask];
+
+            mItems[(mHead + mLength - 1) & mask] = null;
+        }
+
+        if (--mLength == 0) mHead = 0;
+        return true;
+    }
+
+    /**
+     * Les éléments conservés sont compactés vers la tête du tampon, sans déplacer mHead.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        final int length = mLength;
+        mLength = Evaluations.removeIf(mItems, mHead, length, filter);
+        if (mLength == 0) mHead = 0;
+
+        return mLength != length;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mLength <= 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (mLength <= 0) return "[]";
+
+        final int mask = mItems.length - 1;
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+        for (int i = 0; i < mLength; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append(mItems[(mHead + i) & mask]);
+        }
+        return builder.append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof CircularEvaluators)) return false;
+
+        return Arrays.equals(toArray(), ((CircularEvaluators<?, ?>)object).toArray());
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new CircularEvaluators<>(this);
+    }
+
+    private int evaluateOf(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        /*
+         * Les éléments occupent au plus deux plages contiguës du tableau primitif : de mHead à la fin, puis du début à la queue.
+         */
+        final int capacity = mItems.length;
+        final int first = Math.min(mLength, capacity - mHead);
+        for (int i = 0; i < first; i++)
+        {
+            //noinspection unchecked
+            if (((Evaluable<Eval>)mItems[mHead + i]).toEvaluate(eval)) return i;
+        }
+        for (int i = first; i < mLength; i++)
+        {
+            //noinspection unchecked
+            if (((Evaluable<Eval>)mItems[i - first]).toEvaluate(eval)) return i;
+        }
+        return -1;
+    }
+
+    private void append(Object[] items)
+    {
+        int length = items.length;
+        if (length == 0) return;
+
+        ensureCapacity(mLength + length);
+
+        final int mask = mItems.length - 1;
+        for (int i = 0; i < length; i++) mItems[(mHead + mLength + i) & mask] = items[i];
+
+        mLength += length;
+    }
+
+    private void insert(Object[] items, int index)
+    {
+        int length = items.length;
+        if (length == 0) return;
+
+        Object[] array = new Object[capacityFor(mLength + length)];
+        copyTo(array);
+
+        System.arraycopy(array, index, array, index + length, mLength - index);
+        System.arraycopy(items, 0, array, index, length);
+
+        mItems = array;
+        mHead = 0;
+        mLength += length;
+    }
+
+    private void copyTo(Object[] items)
+    {
+        if (mLength <= 0) return;
+
+        final int first = Math.min(mLength, mItems.length - mHead);
+        System.arraycopy(mItems, mHead, items, 0, first);
+        System.arraycopy(mItems, 0, items, first, mLength - first);
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > mItems.length) resize(Math.max(capacityFor(capacity), mItems.length << 1));
+    }
+
+    /*
+     * Le nouveau tableau primitif est linéarisé : la tête revient à la position 0.
+     */
+    private void resize(int capacity)
+    {
+        Object[] items = new Object[capacity];
+        copyTo(items);
+
+        mItems = items;
+        mHead = 0;
+    }
+
+    private static int capacityFor(int length)
+    {
+        if (length <= MIN_CAPACITY) return MIN_CAPACITY;
+        if (length > (1 << 30)) throw new OutOfMemoryError("Required capacity too large: " + length);
+
+        return Integer.highestOneBit(length - 1) << 1;
+    }
+}
@@ -0,0 +1,178 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class ColumnEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractColumnEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 5901127845237791630L;
+    private static final Object[] EMPTY_KEYS = {};
+
+    /*
+     * Colonne des clés extraites : mKeys[i] == mExtractor.apply(get(i)). Les recherches comparent eval.equals(clé) sur ce tableau contigu et ne lisent l'élément qu'en cas de succès.
+     * L'extracteur doit donc être cohérent avec toEvaluate : item.toEvaluate(eval) si et seulement si eval.equals(mExtractor.apply(item)).
+     * Pour que l'instance soit sérialisable, l'extracteur doit l'être aussi.
+     */
+    private final Function<? super Item, ? extends Eval> mExtractor;
+
+    private transient Object[] mKeys;
+
+    public ColumnEvaluators(Function<? super Item, ? extends Eval> extractor)
+    {
+        super();
+        mExtractor = validate(extractor);
+        mKeys = EMPTY_KEYS;
+    }
+
+    public ColumnEvaluators(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(collection);
+        mExtractor = validate(extractor);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public ColumnEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(evaluator);
+        mExtractor = validate(extractor);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public ColumnEvaluators(Item[] array, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(array);
+        mExtractor = validate(extractor);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public ColumnEvaluators(int initialCapacity, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(initialCapacity);
+        mExtractor = validate(extractor);
+        mKeys = (initialCapacity > 0) ? new Object[initialCapacity] : EMPTY_KEYS;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        final Object[] keys = mKeys;
+        final int length = length();
+        for (int i = 0; i < length; i++) if (eval.equals(keys[i])) return i;
+
+        return -1;
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        BitSet matches = new BitSet();
+        if (eval == null) return matches;
+
+        final Object[] keys = mKeys;
+        final int length = length();
+        for (int i = 0; i < length; i++) if (eval.equals(keys[i])) matches.set(i);
+
+        return matches;
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        if (eval == null) return 0;
+
+        final Object[] keys = mKeys;
+        final int length = length();
+
+        int count = 0;
+        for (int i = 0; i < length; i++) if (eval.equals(keys[i])) count++;
+
+        return count;
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new ColumnEvaluators<>(this, mExtractor);
+    }
+
+    @Override
+    protected void columnInsert(int index, int count)
+    {
+        final int length = length();
+        if (length > mKeys.length) mKeys = Arrays.copyOf(mKeys, Math.max(length, mKeys.length + (mKeys.length >> 1)));
+
+        System.arraycopy(mKeys, index, mKeys, index + count, length - count - index);
+        for (int i = index; i < index + count; i++) mKeys[i] = mExtractor.apply(get(i));
+    }
+
+    @Override
+    protected void columnRemove(int index)
+    {
+        final int length = length();
+
+        System.arraycopy(mKeys, index + 1, mKeys, index, length - index);
+        mKeys[length] = null;
+    }
+
+    @Override
+    protected void columnSet(int index)
+    {
+        mKeys[index] = mExtractor.apply(get(index));
+    }
+
+    @Override
+    protected void columnReverse()
+    {
+        int left = 0;
+        int right = length() - 1;
+        while (left < right) {
+            Object key = mKeys[left];
+            mKeys[left++] = mKeys[right];
+            mKeys[right--] = key;
+        }
+    }
+
+    @Override
+    protected void columnClear()
+    {
+        Arrays.fill(mKeys, null);
+    }
+
+    @Override
+    protected void columnTrim()
+    {
+        final int length = length();
+        if (length < mKeys.length) mKeys = (length == 0) ? EMPTY_KEYS : Arrays.copyOf(mKeys, length);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    private static <Eval, Item> Function<? super Item, ? extends Eval> validate(Function<? super Item, ? extends Eval> extractor)
+    {
+        if (extractor == null) throw new IllegalArgumentException("Extractor must not be null");
+
+        return extractor;
+    }
+}
@@ -0,0 +1,288 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+final class CompiledEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -3923751482273096561L;
+    private static final Object[] EMPTY_ITEMS = {};
+    private static final int[] EMPTY_TABLE = {};
+    private static final int BUCKET_SIZE = 4;
+    private static final int MAX_DISPLACEMENT = 1 << 24;
+
+    /*
+     * Évaluateur immuable indexé par un hachage parfait minimal (hash and displace), construit une seule fois par Evaluators.compile.
+     * Les clés distinctes sont réparties dans mDisplacements.length seaux par hash(clé, 0). Pour chaque seau, du plus grand au plus petit, on cherche un déplacement d
+     * tel que hash(clé, d) envoie toutes ses clés sur des emplacements libres de mSlots. Les seaux d'une seule clé prennent directement un emplacement libre, codé -(emplacement) - 1.
+     * mSlots[emplacement] est la position (au sens de get(index)) du premier élément portant la clé : evaluate et indexOf font un calcul de hachage et une seule évaluation.
+     * Deux clés distinctes de même hashCode tombent toujours sur le même emplacement : seule la première est placée dans la table, les suivantes vont dans mOverflow,
+     * consulté par equals lorsque l'évaluation de l'emplacement échoue (null si aucune collision).
+     * L'extracteur doit être cohérent avec toEvaluate : item.toEvaluate(eval) si et seulement si eval.equals(extracteur.apply(item)).
+     */
+    private final Object[] mItems;
+    private final int[] mSlots;
+    private final int[] mDisplacements;
+    private final Map<Object, Integer> mOverflow;
+
+    CompiledEvaluators(Object[] items, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = 0;
+        for (Object item : items) if (item != null) length++;
+
+        mItems = (length == 0) ? EMPTY_ITEMS : new Object[length];
+        length = 0;
+        for (Object item : items) if (item != null) mItems[length++] = item;
+
+        /*
+         * Clés distinctes et position de leur première occurrence.
+         */
+        Map<Eval, Integer> positions = new HashMap<>();
+        for (int i = 0; i < mItems.length; i++)
+        {
+            //noinspection unchecked
+            Eval key = extractor.apply((Item)mItems[i]);
+            if (key != null) positions.putIfAbsent(key, i);
+        }
+
+        Map<Integer, Eval> hashes = new HashMap<>();
+        Map<Object, Integer> overflow = null;
+        for (Iterator<Map.Entry<Eval, Integer>> iterator = positions.entrySet().iterator(); iterator.hasNext();)
+        {
+            Map.Entry<Eval, Integer> entry = iterator.next();
+            if (hashes.putIfAbsent(entry.getKey().hashCode(), entry.getKey()) == null) continue;
+
+            if (overflow == null) overflow = new HashMap<>();
+            overflow.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        mOverflow = overflow;
+
+        final int keys = positions.size();
+        if (keys == 0)
+        {
+            mSlots = EMPTY_TABLE;
+            mDisplacements = EMPTY_TABLE;
+            return;
+        }
+
+        mSlots = new int[keys];
+        mDisplacements = new int[(keys + BUCKET_SIZE - 1) / BUCKET_SIZE];
+
+        List<List<Map.Entry<Eval, Integer>>> buckets = new ArrayList<>(mDisplacements.length);
+        for (int b = 0; b < mDisplacements.length; b++) buckets.add(new ArrayList<>());
+        for (Map.Entry<Eval, Integer> entry : positions.entrySet()) buckets.get(bucketOf(entry.getKey())).add(entry);
+
+        Integer[] order = new Integer[mDisplacements.length];
+        for (int b = 0; b < order.length; b++) order[b] = b;
+        Arrays.sort(order, (left, right) -> Integer.compare(buckets.get(right).size(), buckets.get(left).size()));
+
+        Arrays.fill(mSlots, -1);
+        int[] candidates = new int[BUCKET_SIZE * 4];
+
+        int next = 0;
+        for (int b : order)
+        {
+            List<Map.Entry<Eval, Integer>> bucket = buckets.get(b);
+            if (bucket.isEmpty()) break;
+
+            if (bucket.size() == 1)
+            {
+                while (mSlots[next] >= 0) next++;
+
+                mSlots[next] = bucket.get(0).getValue();
+                mDisplacements[b] = -next - 1;
+                continue;
+            }
+
+            if (candidates.length < bucket.size()) candidates = new int[bucket.size()];
+            mDisplacements[b] = place(bucket, candidates);
+        }
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = indexOf(eval);
+        if (index < 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[index];
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        if (index < 0 || index >= mItems.length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+mItems.length);
+        //noinspection unchecked
+        return (Item)mItems[index];
+    }
+
+    @Override
+    public Item peek()
+    {
+        if (mItems.length == 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[mItems.length - 1];
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, mItems.length);
+        System.arraycopy(mItems, 0, items, 0, mItems.length);
+
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        //noinspection unchecked
+        if (items.length < mItems.length) items = (Item[])Array.newInstance(items.getClass().getComponentType(), mItems.length);
+
+        System.arraycopy(mItems, 0, items, 0, mItems.length);
+        if (items.length > mItems.length) items[mItems.length] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return mItems.clone();
+    }
+
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(mItems, 0, mItems.length, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int length()
+    {
+        return mItems.length;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        if (eval == null || mSlots.length == 0) return -1;
+
+        int displacement = mDisplacements[bucketOf(eval)];
+        int slot = (displacement < 0) ? -displacement - 1 : slotOf(eval, displacement);
+
+        int index = mSlots[slot];
+        //noinspection unchecked
+        if (((Evaluable<Eval>)mItems[index]).toEvaluate(eval)) return index;
+        if (mOverflow == null) return -1;
+
+        Integer overflow = mOverflow.get(eval);
+        return (overflow == null) ? -1 : overflow;
+    }
+
+    /*
+     * Les clés en double ne sont indexées qu'une fois : matches et count parcourent donc les éléments.
+     */
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        return Evaluations.matches(mItems, mItems.length, eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        return Evaluations.count(mItems, mItems.length, eval);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mItems.length == 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(mItems);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof CompiledEvaluators)) return false;
+
+        return Arrays.equals(mItems, ((CompiledEvaluators<?, ?>)object).mItems);
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return this;
+    }
+
+    /*
+     * Cherche le premier déplacement qui envoie toutes les clés du seau sur des emplacements libres et distincts, puis les y range.
+     */
+    private int place(List<Map.Entry<Eval, Integer>> bucket, int[] candidates)
+    {
+        for (int displacement = 1; displacement < MAX_DISPLACEMENT; displacement++)
+        {
+            boolean free = true;
+            for (int i = 0; i < bucket.size() && free; i++)
+            {
+                int slot = slotOf(bucket.get(i).getKey(), displacement);
+                if (mSlots[slot] >= 0) free = false;
+                for (int j = 0; j < i && free; j++) if (candidates[j] == slot) free = false;
+
+                candidates[i] = slot;
+            }
+            if (!free) continue;
+
+            for (int i = 0; i < bucket.size(); i++) mSlots[candidates[i]] = bucket.get(i).getValue();
+            return displacement;
+        }
+        throw new IllegalStateException("Unable to build a perfect hash for " + mSlots.length + " keys");
+    }
+
+    private int bucketOf(Object key)
+    {
+        return Integer.remainderUnsigned(hash(key.hashCode(), 0), mDisplacements.length);
+    }
+
+    private int slotOf(Object key, int displacement)
+    {
+        return Integer.remainderUnsigned(hash(key.hashCode(), displacement), mSlots.length);
+    }
+
+    private static int hash(int hash, int seed)
+    {
+        hash ^= seed * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+}
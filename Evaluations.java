@@ -0,0 +1,240 @@
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+final class Evaluations
+{
+    private static final int MIN_SEGMENT = 1024;
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private Evaluations() {}
+
+    /*
+     * Résout plusieurs évaluations en un seul parcours du tableau primitif : chaque élément est comparé aux évaluations encore en attente,
+     * une évaluation satisfaite est retirée de la liste d'attente et le parcours s'arrête dès qu'il n'en reste plus aucune.
+     * La position retournée pour chaque évaluation est la plus petite position satisfaisante, -1 sinon.
+     */
+    static int[] indexOfAll(Object[] items, int length, Object[] evals)
+    {
+        final int count = evals.length;
+
+        int[] indexes = new int[count];
+        Arrays.fill(indexes, -1);
+
+        int[] pending = new int[count];
+        int remaining = 0;
+        for (int j = 0; j < count; j++) if (evals[j] != null) pending[remaining++] = j;
+
+        for (int i = 0; i < length && remaining > 0; i++)
+        {
+            //noinspection unchecked
+            Evaluator.Evaluable<Object> item = (Evaluator.Evaluable<Object>)items[i];
+            if (item == null) continue;
+
+            int p = 0;
+            while (p < remaining) {
+                int j = pending[p];
+                if (item.toEvaluate(evals[j]))
+                {
+                    indexes[j] = i;
+                    pending[p] = pending[--remaining];
+                }
+                else p++;
+            }
+        }
+        return indexes;
+    }
+
+    /*
+     * Retient les candidats dont la clé n'est portée ni par un des length premiers éléments de items, ni par un candidat déjà retenu :
+     * un parcours des éléments remplit un ensemble de clés temporaire, puis un parcours des candidats les y ajoute un à un.
+     * Les candidats retenus sont compactés en tête de candidates dans leur ordre d'origine, les candidats nuls sont ignorés. Retourne le nombre de candidats retenus.
+     */
+    static <Item> int absent(Object[] items, int length, Object[] candidates, Function<? super Item, ?> extractor)
+    {
+        if (extractor == null) throw new IllegalArgumentException("Extractor must not be null");
+        if (candidates.length == 0) return 0;
+
+        Set<Object> keys = new HashSet<>(Math.max(16, (int)((length + candidates.length) / .75f) + 1));
+        for (int i = 0; i < length; i++)
+        {
+            //noinspection unchecked
+            if (items[i] != null) keys.add(extractor.apply((Item)items[i]));
+        }
+
+        int kept = 0;
+        for (Object candidate : candidates)
+        {
+            //noinspection unchecked
+            if (candidate != null && keys.add(extractor.apply((Item)candidate))) candidates[kept++] = candidate;
+        }
+        return kept;
+    }
+
+    /*
+     * Éléments non nuls d'un ajout groupé, pour les sous-classes qui indexent chaque élément (clés, colonnes, filtre) et ignorent null comme push.
+     * La source est retournée telle quelle lorsqu'elle n'en porte aucun : seul un ajout contenant des éléments nuls paie une copie.
+     */
+    static <Item> Collection<? extends Item> nonNull(Collection<? extends Item> collection)
+    {
+        for (Item item : collection)
+        {
+            if (item == null) return collection.stream().filter(Objects::nonNull).toList();
+        }
+        return collection;
+    }
+
+    static <Eval, Item extends Evaluator.Evaluable<Eval>> Evaluator<? extends Eval, ? extends Item> nonNull(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        if (evaluator.stream().noneMatch(Objects::isNull)) return evaluator;
+        return new Evaluators<Eval, Item>(evaluator.stream().filter(Objects::nonNull).toList());
+    }
+
+    /*
+     * Retire les éléments qui satisfont le filtre parmi les length éléments rangés à partir de head, en revenant au début du tableau après la dernière case
+     * (tampon circulaire de CircularEvaluators, head vaut 0 pour un tableau ordinaire). Retourne le nombre d'éléments conservés.
+     * Comme ArrayList.removeIf, le filtre est d'abord appliqué à tous les éléments et les positions à retirer sont notées : s'il lève une exception, le tableau n'a pas changé.
+     * Les éléments conservés sont ensuite compactés vers head en un seul parcours, dans leur ordre, et les cases libérées sont remises à null.
+     */
+    static <Item> int removeIf(Object[] items, int head, int length, Predicate<? super Item> filter)
+    {
+        final int capacity = items.length;
+
+        BitSet removed = null;
+        for (int i = 0; i < length; i++)
+        {
+            //noinspection unchecked
+            if (!filter.test((Item)items[wrap(head + i, capacity)])) continue;
+
+            if (removed == null) removed = new BitSet(length);
+            removed.set(i);
+        }
+        if (removed == null) return length;
+
+        int kept = 0;
+        for (int i = 0; i < length; i++)
+        {
+            if (!removed.get(i)) items[wrap(head + kept++, capacity)] = items[wrap(head + i, capacity)];
+        }
+        for (int i = kept; i < length; i++) items[wrap(head + i, capacity)] = null;
+
+        return kept;
+    }
+
+    /*
+     * Positions de tous les éléments satisfaisant l'évaluation, en un seul parcours.
+     */
+    static BitSet matches(Object[] items, int length, Object eval)
+    {
+        BitSet matches = new BitSet(length);
+        if (eval == null) return matches;
+
+        for (int i = 0; i < length; i++)
+        {
+            //noinspection unchecked
+            Evaluator.Evaluable<Object> item = (Evaluator.Evaluable<Object>)items[i];
+            if (item != null && item.toEvaluate(eval)) matches.set(i);
+        }
+        return matches;
+    }
+
+    static int count(Object[] items, int length, Object eval)
+    {
+        if (eval == null) return 0;
+
+        int count = 0;
+        for (int i = 0; i < length; i++)
+        {
+            //noinspection unchecked
+            Evaluator.Evaluable<Object> item = (Evaluator.Evaluable<Object>)items[i];
+            if (item != null && item.toEvaluate(eval)) count++;
+        }
+        return count;
+    }
+
+    /*
+     * Analyse le tableau primitif par segments sur le pool envoyé en paramètre.
+     * Dès qu'un segment trouve un élément, les autres segments s'arrêtent : tous si ordered est faux, seulement ceux situés après la position trouvée si ordered est vrai.
+     */
+    static int parallelIndexOf(ForkJoinPool pool, Object[] items, int length, Object eval, boolean ordered)
+    {
+        int segment = Math.max(MIN_SEGMENT, length / (pool.getParallelism() * 4));
+
+        AtomicInteger found = new AtomicInteger(NOT_FOUND);
+        pool.invoke(new Scan(items, 0, length, segment, eval, ordered, found));
+
+        int index = found.get();
+        return (index == NOT_FOUND) ? -1 : index;
+    }
+
+    private static int wrap(int position, int capacity)
+    {
+        return (position < capacity) ? position : position - capacity;
+    }
+
+    private static final class Scan extends RecursiveAction
+    {
+        private final Object[] mItems;
+        private final int mFrom;
+        private final int mTo;
+        private final int mSegment;
+        private final Object mEval;
+        private final boolean mOrdered;
+        private final AtomicInteger mFound;
+
+        private Scan(Object[] items, int from, int to, int segment, Object eval, boolean ordered, AtomicInteger found)
+        {
+            mItems = items;
+            mFrom = from;
+            mTo = to;
+            mSegment = segment;
+            mEval = eval;
+            mOrdered = ordered;
+            mFound = found;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (isSettled(mFrom)) return;
+            if (mTo - mFrom > mSegment)
+            {
+                int middle = (mFrom + mTo) >>> 1;
+                invokeAll(new Scan(mItems, mFrom, middle, mSegment, mEval, mOrdered, mFound), new Scan(mItems, middle, mTo, mSegment, mEval, mOrdered, mFound));
+                return;
+            }
+
+            for (int i = mFrom; i < mTo; i++)
+            {
+                if ((i & 0xFF) == 0 && isSettled(i)) return;
+
+                //noinspection unchecked
+                Evaluator.Evaluable<Object> item = (Evaluator.Evaluable<Object>)mItems[i];
+                if (item == null || !item.toEvaluate(mEval)) continue;
+
+                if (mOrdered) mFound.accumulateAndGet(i, Math::min);
+                else mFound.compareAndSet(NOT_FOUND, i);
+                return;
+            }
+        }
+
+        private boolean isSettled(int index)
+        {
+            int found = mFound.get();
+            return mOrdered ? found < index : found != NOT_FOUND;
+        }
+    }
+}
@@ -1,5 +1,15 @@
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Created on : 27/03/2022
@@ -26,6 +36,10 @@ public interface Evaluator<Eval, Item extends Evaluator.Evaluable<Eval>> extends
 
     void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index);
 
+    void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor);
+
+    void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor);
+
     void clear();
 
     void trim();
@@ -36,6 +50,8 @@ public interface Evaluator<Eval, Item extends Evaluator.Evaluable<Eval>> extends
 
     Item evaluate(Eval eval);
 
+    List<Item> evaluateAll(Collection<? extends Eval> evals);
+
     Item get(int index);
 
     Item acquire();
@@ -50,14 +66,32 @@ public interface Evaluator<Eval, Item extends Evaluator.Evaluable<Eval>> extends
 
     Object[] toArray();
 
+    Spliterator<Item> spliterator();
+
+    Stream<Item> stream();
+
+    Stream<Item> parallelStream();
+
     int length();
 
     int indexOf(Eval eval);
 
+    int[] indexOfAll(Collection<? extends Eval> evals);
+
+    BitSet matches(Eval eval);
+
+    int count(Eval eval);
+
     boolean remove(Eval eval);
 
     boolean remove(int index);
 
+    boolean removeIf(Predicate<? super Item> filter);
+
+    boolean removeAll(Eval eval);
+
+    boolean retainAll(Collection<? extends Eval> evals);
+
     boolean isEmpty();
 
     String toString();
@@ -68,4 +102,58 @@ public interface Evaluator<Eval, Item extends Evaluator.Evaluable<Eval>> extends
     {
         boolean toEvaluate(Target target);
     }
+
+    interface KeyedEvaluable<Key> extends Evaluable<Key>
+    {
+        Key toKey();
+
+        @Override
+        default boolean toEvaluate(Key key)
+        {
+            return Objects.equals(toKey(), key);
+        }
+    }
+
+    interface IntEvaluable extends Evaluable<Integer>
+    {
+        int toIntKey();
+
+        default boolean toEvaluate(int key)
+        {
+            return toIntKey() == key;
+        }
+
+        @Override
+        default boolean toEvaluate(Integer key)
+        {
+            return key != null && toEvaluate(key.intValue());
+        }
+    }
+
+    interface LongEvaluable extends Evaluable<Long>
+    {
+        long toLongKey();
+
+        default boolean toEvaluate(long key)
+        {
+            return toLongKey() == key;
+        }
+
+        @Override
+        default boolean toEvaluate(Long key)
+        {
+            return key != null && toEvaluate(key.longValue());
+        }
+    }
+
+    /**
+     * Encodage binaire des éléments pour les instantanés (Evaluators.save / Evaluators.load).
+     * decode reçoit un tampon limité aux octets écrits par encode pour cet élément, positionné à leur début, et ne doit pas le conserver.
+     */
+    interface Codec<Item>
+    {
+        void encode(Item item, DataOutput output) throws IOException;
+
+        Item decode(ByteBuffer buffer);
+    }
 }
@@ -1,8 +1,21 @@
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Created on : 27/03/2022
@@ -17,11 +30,64 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         return new ImmutableEvaluators<>(items);
     }
 
-    private static final long serialVersionUID = 6203352090132307890L;
+    /**
+     * Construit un évaluateur immuable dont evaluate et indexOf sont en temps constant : les clés données par l'extracteur sont indexées une fois pour toutes
+     * par un hachage parfait minimal. L'extracteur doit être cohérent avec toEvaluate : item.toEvaluate(eval) si et seulement si eval.equals(extracteur.apply(item)).
+     */
+    @SafeVarargs
+    public static <Eval, Item extends Evaluable<Eval>> Evaluator<Eval, Item> compile(Function<? super Item, ? extends Eval> extractor, Item... items)
+    {
+        if (extractor == null) throw new IllegalArgumentException("Extractor must not be null");
+
+        return new CompiledEvaluators<>(items, extractor);
+    }
+
+    public static <Eval, Item extends Evaluable<Eval>> Evaluator<Eval, Item> compile(Function<? super Item, ? extends Eval> extractor, Collection<? extends Item> collection)
+    {
+        if (extractor == null) throw new IllegalArgumentException("Extractor must not be null");
+
+        return new CompiledEvaluators<>(collection.toArray(), extractor);
+    }
+
+    /**
+     * Écrit les éléments de l'évaluateur dans un instantané binaire, chaque élément étant encodé par le codec envoyé en paramètre.
+     */
+    public static <Eval, Item extends Evaluable<Eval>> void save(Evaluator<Eval, Item> evaluator, Path path, Codec<? super Item> codec) throws IOException
+    {
+        /*
+         * toArray donne une copie cohérente des références, y compris pour les implémentations concurrentes, l'encodage se fait ensuite sans verrou.
+         */
+        Object[] items = evaluator.toArray();
+        Snapshots.<Item>save(items, items.length, path, codec);
+    }
+
+    /**
+     * Ouvre un instantané écrit par save sans le lire : le fichier est projeté en mémoire et chaque élément n'est décodé qu'à sa première lecture.
+     * L'évaluateur retourné est immuable, new Evaluators<>(Evaluators.load(path, codec)) en donne une copie modifiable.
+     */
+    public static <Eval, Item extends Evaluable<Eval>> Evaluator<Eval, Item> load(Path path, Codec<? extends Item> codec) throws IOException
+    {
+        return Snapshots.load(path, codec);
+    }
+
+    private static final long serialVersionUID = -4414051845810032132L;
     private static final Object[] EMPTY_ITEMS = {};
 
-    private Object[] mItems;
-    private int mLength;
+    /*
+     * Forme sérialisée compacte (writeObject / readObject) : seuls les mLength éléments vivants sont écrits, la capacité inutilisée ne l'est pas.
+     * Si un codec est configuré (setCodec), les éléments sont écrits en un seul bloc binaire au lieu d'un objet par élément.
+     */
+    private transient Object[] mItems;
+    private transient int mLength;
+    private transient Codec<? super Item> mCodec;
+
+    /*
+     * Évaluation parallèle (désactivée par défaut) : au-delà de mParallelThreshold éléments, evaluateOf découpe le tableau primitif en segments analysés sur mPool.
+     * À configurer avant de partager l'instance entre plusieurs threads.
+     */
+    private transient ForkJoinPool mPool;
+    private transient int mParallelThreshold;
+    private transient boolean mOrdered;
 
     public Evaluators()
     {
@@ -30,18 +96,14 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
 
     public Evaluators(Collection<? extends Item> collection)
     {
-        mItems = collection.toArray();
-
-        if ((mLength = mItems.length) != 0) mItems = Arrays.copyOf(mItems, mLength, mItems.getClass());
-        else mItems = EMPTY_ITEMS;
+        mItems = EMPTY_ITEMS;
+        append(collection);
     }
 
     public Evaluators(Evaluator<? extends Eval, ? extends Item> evaluator)
     {
-        mItems = evaluator.toArray();
-
-        if ((mLength = mItems.length) != 0) mItems = Arrays.copyOf(mItems, mLength, mItems.getClass());
-        else mItems = EMPTY_ITEMS;
+        mItems = EMPTY_ITEMS;
+        append(evaluator, 0);
     }
 
     public Evaluators(Item[] array)
@@ -59,6 +121,36 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         else throw new IllegalArgumentException("Illegal initial capacity " + initialCapacity);
     }
 
+    /**
+     * Active l'évaluation parallèle pour evaluate, indexOf, remove(eval), set(item, eval) et pushIfAbsent lorsque le nombre d'éléments atteint threshold.
+     * Si ordered est vrai, la plus petite position satisfaisante est retournée ; sinon, la première trouvée par n'importe quel segment.
+     */
+    public void setParallel(ForkJoinPool pool, int threshold, boolean ordered)
+    {
+        if (pool == null) throw new IllegalArgumentException("Pool must not be null");
+        if (threshold < 1) throw new IllegalArgumentException("Illegal parallel threshold " + threshold);
+
+        mPool = pool;
+        mParallelThreshold = threshold;
+        mOrdered = ordered;
+    }
+
+    public void setSequential()
+    {
+        mPool = null;
+        mParallelThreshold = 0;
+        mOrdered = false;
+    }
+
+    /**
+     * Configure le codec utilisé pour sérialiser les éléments, null pour revenir à la sérialisation Java de chaque élément.
+     * Le codec est écrit dans le flux avec les éléments : il doit être Serializable et il est conservé par l'instance désérialisée.
+     */
+    public void setCodec(Codec<? super Item> codec)
+    {
+        mCodec = codec;
+    }
+
     @Override
     public void push(Item item)
     {
@@ -119,20 +211,7 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
     @Override
     public void pushAll(Collection<? extends Item> collection)
     {
-        Object[] items = collection.toArray();
-        int length = items.length;
-        if (length == 0) return;
-
-        /*
-         * S'assurer que le tableau primitif possède le nombre d'emplacement requis.
-         * Si le nombre d'emplacement est supérieur ou égal au nombre d'emplacement requis, alors le valeur de retour est le tableau primitif envoyé en paramètre.
-         * Si le nombre d'emplacement est inférieur au nombre d'emplacement requis, alors la valeur de retour est un nouveau tableau primitif possédant les mêmes valeurs du tableau envoyé en paramètre avec le nombre d'emplacement requis.
-         */
-        mItems = Items.ensureCapacity(mItems, mLength + length);
-
-        System.arraycopy(items, 0, mItems, mLength, length);
-
-        mLength += length;
+        append(collection);
     }
 
     @Override
@@ -141,39 +220,13 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
 
         Object[] items = collection.toArray();
-        int length = items.length;
-        if (length == 0) return;
-
-        /*
-         * S'assurer que le tableau primitif possède le nombre d'emplacement requis.
-         * Si le nombre d'emplacement est supérieur ou égal au nombre d'emplacement requis, alors le valeur de retour est le tableau primitif envoyé en paramètre.
-         * Si le nombre d'emplacement est inférieur au nombre d'emplacement requis, alors la valeur de retour est un nouveau tableau primitif possédant les mêmes valeurs du tableau envoyé en paramètre avec le nombre d'emplacement requis.
-         */
-        mItems = Items.ensureCapacity(mItems, mLength + length);
-
-        System.arraycopy(mItems, index, mItems, index + length, mLength - index);
-        System.arraycopy(items, 0, mItems, index, length);
-
-        mLength += length;
+        insert(items, items.length, index);
     }
 
     @Override
     public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
     {
-        Object[] items = evaluator.toArray();
-        int length = items.length;
-        if (length == 0) return;
-
-        /*
-         * S'assurer que le tableau primitif possède le nombre d'emplacement requis.
-         * Si le nombre d'emplacement est supérieur ou égal au nombre d'emplacement requis, alors le valeur de retour est le tableau primitif envoyé en paramètre.
-         * Si le nombre d'emplacement est inférieur au nombre d'emplacement requis, alors la valeur de retour est un nouveau tableau primitif possédant les mêmes valeurs du tableau envoyé en paramètre avec le nombre d'emplacement requis.
-         */
-        mItems = Items.ensureCapacity(mItems, mLength + length);
-
-        System.arraycopy(items, 0, mItems, mLength, length);
-
-        mLength += length;
+        append(evaluator, mLength);
     }
 
     @Override
@@ -181,21 +234,24 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
     {
         if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
 
-        Object[] items = evaluator.toArray();
-        int length = items.length;
-        if (length == 0) return;
-
-        /*
-         * S'assurer que le tableau primitif possède le nombre d'emplacement requis.
-         * Si le nombre d'emplacement est supérieur ou égal au nombre d'emplacement requis, alors le valeur de retour est le tableau primitif envoyé en paramètre.
-         * Si le nombre d'emplacement est inférieur au nombre d'emplacement requis, alors la valeur de retour est un nouveau tableau primitif possédant les mêmes valeurs du tableau envoyé en paramètre avec le nombre d'emplacement requis.
-         */
-        mItems = Items.ensureCapacity(mItems, mLength + length);
+        append(evaluator, index);
+    }
 
-        System.arraycopy(mItems, index, mItems, index + length, mLength - index);
-        System.arraycopy(items, 0, mItems, index, length);
+    /**
+     * Ajoute en fin de tableau, dans leur ordre, les éléments dont la clé donnée par extractor n'est portée par aucun élément présent ni par un élément précédent du lot.
+     * Un seul parcours des éléments présents remplit un ensemble de clés temporaire, le tableau primitif est agrandi une seule fois et les éléments retenus y sont copiés d'un bloc.
+     * L'extracteur doit être cohérent avec toEvaluate : item.toEvaluate(eval) si et seulement si eval.equals(extracteur.apply(item)).
+     */
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        pushAbsent(collection.toArray(), extractor);
+    }
 
-        mLength += length;
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        pushAbsent(evaluator.toArray(), extractor);
     }
 
     @Override
@@ -300,6 +356,23 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         return (Item)mItems[index];
     }
 
+    /**
+     * Résout toutes les évaluations en un seul parcours (Evaluations.indexOfAll), qui retient pour chacune la plus petite position satisfaisante.
+     * evaluate et indexOf utilisent le parcours par quatre pointeurs et retournent n'importe quelle position satisfaisante :
+     * si plusieurs éléments satisfont une même évaluation, evaluateAll et evaluate peuvent donc retourner des éléments différents, de même pour indexOfAll et indexOf.
+     */
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        int[] indexes = Evaluations.indexOfAll(mItems, mLength, evals.toArray());
+
+        List<Item> items = new ArrayList<>(indexes.length);
+        //noinspection unchecked
+        for (int index : indexes) items.add((index < 0) ? null : (Item)mItems[index]);
+
+        return items;
+    }
+
     @Override
     public Item get(int index)
     {
@@ -360,7 +433,7 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         if (mLength <= 0) return null;
         //noinspection unchecked
         final Item value = (Item)mItems[0];
-        System.arraycopy(mItems, 1, mItems, 0, mLength);
+        System.arraycopy(mItems, 1, mItems, 0, mLength - 1);
 
         mItems[--mLength] = null;
         return value;
@@ -375,6 +448,15 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         return (Item)mItems[mLength - 1];
     }
 
+    /*
+     * Parcourt directement le tableau primitif, sans copie : la collection ne doit pas être modifiée pendant le parcours.
+     */
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(mItems, 0, mLength, Spliterator.ORDERED);
+    }
+
     @Override
     public int length()
     {
@@ -387,6 +469,27 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         return evaluateOf(eval);
     }
 
+    /**
+     * Plus petite position satisfaisante pour chaque évaluation, voir evaluateAll.
+     */
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        return Evaluations.indexOfAll(mItems, mLength, evals.toArray());
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        return Evaluations.matches(mItems, mLength, eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        return Evaluations.count(mItems, mLength, eval);
+    }
+
     @Override
     public boolean remove(Eval eval)
     {
@@ -405,6 +508,19 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         return true;
     }
 
+    /**
+     * Retire tous les éléments qui satisfont le filtre : les éléments conservés sont compactés en tête du tableau primitif (Evaluations.removeIf).
+     * Si le filtre lève une exception, aucun élément n'est retiré.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        final int length = mLength;
+        mLength = Evaluations.removeIf(mItems, 0, length, filter);
+
+        return mLength != length;
+    }
+
     @Override
     public boolean isEmpty()
     {
@@ -475,6 +591,7 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
     private int evaluateOf(Eval eval)
     {
         if (eval == null) return -1;
+        if (mPool != null && mLength >= mParallelThreshold) return Evaluations.parallelIndexOf(mPool, mItems, mLength, eval, mOrdered);
         if (mLength < 4)
         {
             int left = 0;
@@ -512,4 +629,113 @@ public class Evaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Ab
         } while (middleLeft >= left && middleRight <= right);
         return -1;
     }
+
+    /*
+     * items doit être une copie : les éléments retenus sont compactés en tête avant d'être copiés dans le tableau primitif.
+     */
+    private void pushAbsent(Object[] items, Function<? super Item, ? extends Eval> extractor)
+    {
+        insert(items, Evaluations.absent(mItems, mLength, items, extractor), mLength);
+    }
+
+    /*
+     * Ajoute les éléments de la collection en la parcourant, sans la copie temporaire de collection.toArray().
+     * Le tableau primitif est agrandi une fois selon size(), puis de moitié à chaque fois si la collection fournit davantage d'éléments.
+     */
+    private void append(Collection<? extends Item> collection)
+    {
+        mItems = Items.ensureCapacity(mItems, mLength + collection.size());
+
+        int index = mLength;
+        for (Item item : collection)
+        {
+            if (index == mItems.length) mItems = Items.ensureCapacity(mItems, index + (index >> 1) + 1);
+            mItems[index++] = item;
+        }
+        mLength = index;
+    }
+
+    /*
+     * Les éléments d'un Evaluators ou d'un ImmutableEvaluators sont copiés directement depuis leur tableau primitif, sans passer par evaluator.toArray().
+     * Un Evaluators ajouté à lui-même est d'abord copié : le décalage des éléments écraserait la source.
+     */
+    private void append(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        if (evaluator == this) insert(Arrays.copyOf(mItems, mLength), mLength, index);
+        else if (evaluator instanceof Evaluators<?, ?> evaluators) evaluators.copyInto(this, index);
+        else if (evaluator instanceof ImmutableEvaluators<?, ?> immutable) immutable.copyInto(this, index);
+        else
+        {
+            Object[] items = evaluator.toArray();
+            insert(items, items.length, index);
+        }
+    }
+
+    /*
+     * Copie les éléments vivants dans target à la position index.
+     */
+    void copyInto(Evaluators<?, ?> target, int index)
+    {
+        target.insert(mItems, mLength, index);
+    }
+
+    /*
+     * Insère les length premiers éléments de items à la position index : le tableau primitif est agrandi au plus une fois et les éléments y sont copiés d'un bloc.
+     */
+    final void insert(Object[] items, int length, int index)
+    {
+        if (length == 0) return;
+
+        /*
+         * S'assurer que le tableau primitif possède le nombre d'emplacement requis.
+         * Si le nombre d'emplacement est supérieur ou égal au nombre d'emplacement requis, alors le valeur de retour est le tableau primitif envoyé en paramètre.
+         * Si le nombre d'emplacement est inférieur au nombre d'emplacement requis, alors la valeur de retour est un nouveau tableau primitif possédant les mêmes valeurs du tableau envoyé en paramètre avec le nombre d'emplacement requis.
+         */
+        mItems = Items.ensureCapacity(mItems, mLength + length);
+
+        if (index < mLength) System.arraycopy(mItems, index, mItems, index + length, mLength - index);
+        System.arraycopy(items, 0, mItems, index, length);
+
+        mLength += length;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+
+        /*
+         * toArray donne une copie exacte des éléments vivants, cohérente y compris pour les sous-classes qui le verrouillent (EvaluatorsSynchronized, EvaluatorsStamped).
+         */
+        Object[] items = toArray();
+        out.writeInt(items.length);
+        out.writeObject(mCodec);
+
+        if (mCodec != null) Snapshots.write(out, items, items.length, mCodec);
+        else for (Object item : items) out.writeObject(item);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        int length = in.readInt();
+        if (length < 0) throw new InvalidObjectException("Illegal length " + length);
+
+        //noinspection unchecked
+        mCodec = (Codec<? super Item>)in.readObject();
+
+        Object[] items;
+        if (length == 0) items = EMPTY_ITEMS;
+        else if (mCodec != null) items = Snapshots.read(in, length, mCodec);
+        else
+        {
+            items = new Object[length];
+            for (int i = 0; i < length; i++) items[i] = in.readObject();
+        }
+
+        mItems = items;
+        mLength = length;
+    }
 }
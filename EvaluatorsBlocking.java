@@ -0,0 +1,615 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class EvaluatorsBlocking<Eval, Item extends Evaluator.Evaluable<Eval>> extends CircularEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 2950377416862113468L;
+    private static final int MAX_PREALLOCATION = 1 << 10;
+
+    /*
+     * File bornée producteur/consommateur : les consommateurs attendent sur mNotEmpty, les producteurs sur mNotFull.
+     * Les attentes se font par Condition (java.util.concurrent.locks) : un thread virtuel en attente est garé sans bloquer son thread porteur.
+     * Les insertions en masse ou positionnelles qui dépasseraient la capacité lèvent IllegalStateException au lieu d'attendre.
+     */
+    private final int mCapacity;
+    private final ReentrantLock mLock;
+    private final Condition mNotEmpty;
+    private final Condition mNotFull;
+
+    public EvaluatorsBlocking(int capacity)
+    {
+        super(Math.min(validate(capacity), MAX_PREALLOCATION));
+
+        mCapacity = capacity;
+        mLock = new ReentrantLock();
+        mNotEmpty = mLock.newCondition();
+        mNotFull = mLock.newCondition();
+    }
+
+    public int capacity()
+    {
+        return mCapacity;
+    }
+
+    public int remainingCapacity()
+    {
+        mLock.lock();
+        try {
+            return mCapacity - super.length();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /**
+     * Attend, sans pouvoir être interrompu, qu'un emplacement se libère.
+     */
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        mLock.lock();
+        try {
+            while (super.length() >= mCapacity) mNotFull.awaitUninterruptibly();
+
+            super.push(item);
+            mNotEmpty.signal();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /**
+     * Attend au plus timeout qu'un emplacement se libère, retourne false si le délai est écoulé.
+     */
+    public boolean push(Item item, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        if (item == null) return false;
+
+        long nanos = unit.toNanos(timeout);
+        mLock.lockInterruptibly();
+        try {
+            while (super.length() >= mCapacity) {
+                if (nanos <= 0L) return false;
+                nanos = mNotFull.awaitNanos(nanos);
+            }
+
+            super.push(item);
+            mNotEmpty.signal();
+            return true;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        mLock.lock();
+        try {
+            if (item != null) ensureRoom(1);
+
+            super.push(item, index);
+            mNotEmpty.signal();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+
+        mLock.lock();
+        try {
+            /*
+             * La présence est vérifiée avant d'attendre, puis à nouveau après chaque réveil : un évaluateur plein qui contient déjà eval ne bloque pas.
+             */
+            while (super.indexOf(eval) < 0) {
+                if (super.length() < mCapacity)
+                {
+                    super.push(item);
+                    mNotEmpty.signal();
+                    return;
+                }
+                mNotFull.awaitUninterruptibly();
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        mLock.lock();
+        try {
+            super.set(item, index);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        mLock.lock();
+        try {
+            super.set(item, eval);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        mLock.lock();
+        try {
+            ensureRoom(collection.size());
+
+            super.pushAll(collection);
+            mNotEmpty.signalAll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        mLock.lock();
+        try {
+            ensureRoom(collection.size());
+
+            super.pushAll(collection, index);
+            mNotEmpty.signalAll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        mLock.lock();
+        try {
+            ensureRoom(evaluator.length());
+
+            super.pushAll(evaluator);
+            mNotEmpty.signalAll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        mLock.lock();
+        try {
+            ensureRoom(evaluator.length());
+
+            super.pushAll(evaluator, index);
+            mNotEmpty.signalAll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        mLock.lock();
+        try {
+            super.pushAllIfAbsent(collection, extractor);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        mLock.lock();
+        try {
+            super.pushAllIfAbsent(evaluator, extractor);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        mLock.lock();
+        try {
+            super.clear();
+            mNotFull.signalAll();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void trim()
+    {
+        mLock.lock();
+        try {
+            super.trim();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void reverse()
+    {
+        mLock.lock();
+        try {
+            super.reverse();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public void pop()
+    {
+        acquire();
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        mLock.lock();
+        try {
+            return super.evaluate(eval);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        mLock.lock();
+        try {
+            return super.evaluateAll(evals);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        mLock.lock();
+        try {
+            return super.get(index);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item acquire()
+    {
+        mLock.lock();
+        try {
+            Item item = super.acquire();
+            if (item != null) mNotFull.signal();
+
+            return item;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /**
+     * Attend au plus timeout qu'un élément soit disponible et retire le dernier, retourne null si le délai est écoulé.
+     */
+    public Item acquire(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        mLock.lockInterruptibly();
+        try {
+            while (super.isEmpty()) {
+                if (nanos <= 0L) return null;
+                nanos = mNotEmpty.awaitNanos(nanos);
+            }
+
+            Item item = super.acquire();
+            mNotFull.signal();
+            return item;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        mLock.lock();
+        try {
+            Item item = super.acquireFirst();
+            if (item != null) mNotFull.signal();
+
+            return item;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /**
+     * Attend au plus timeout qu'un élément soit disponible et retire le premier, retourne null si le délai est écoulé.
+     */
+    public Item acquireFirst(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        mLock.lockInterruptibly();
+        try {
+            while (super.isEmpty()) {
+                if (nanos <= 0L) return null;
+                nanos = mNotEmpty.awaitNanos(nanos);
+            }
+
+            Item item = super.acquireFirst();
+            mNotFull.signal();
+            return item;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /**
+     * Retire au plus max éléments, du premier au dernier, et les ajoute à la collection envoyée en paramètre. Retourne le nombre d'éléments transférés.
+     */
+    public int drainTo(Collection<? super Item> collection, int max)
+    {
+        if (collection == null) throw new IllegalArgumentException("Collection must not be null");
+        if (max <= 0) return 0;
+
+        mLock.lock();
+        try {
+            int count = Math.min(max, super.length());
+            for (int i = 0; i < count; i++) collection.add(super.acquireFirst());
+
+            if (count > 0) mNotFull.signalAll();
+            return count;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item peek()
+    {
+        mLock.lock();
+        try {
+            return super.peek();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item peekFirst()
+    {
+        mLock.lock();
+        try {
+            return super.peekFirst();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        mLock.lock();
+        try {
+            return super.toArray(type);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        mLock.lock();
+        try {
+            return super.toArray(items);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        mLock.lock();
+        try {
+            return super.toArray();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int length()
+    {
+        mLock.lock();
+        try {
+            return super.length();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        mLock.lock();
+        try {
+            return super.indexOf(eval);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        mLock.lock();
+        try {
+            return super.indexOfAll(evals);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        mLock.lock();
+        try {
+            return super.matches(eval);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        mLock.lock();
+        try {
+            return super.count(eval);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        mLock.lock();
+        try {
+            return super.remove(eval);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        mLock.lock();
+        try {
+            boolean removed = super.remove(index);
+            if (removed) mNotFull.signal();
+
+            return removed;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        mLock.lock();
+        try {
+            boolean removed = super.removeIf(filter);
+            if (removed) mNotFull.signalAll();
+
+            return removed;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        mLock.lock();
+        try {
+            return super.isEmpty();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        mLock.lock();
+        try {
+            return super.toString();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        mLock.lock();
+        try {
+            return super.equals(object);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        EvaluatorsBlocking<Eval, Item> evaluators = new EvaluatorsBlocking<>(mCapacity);
+        evaluators.pushAll(this);
+
+        return evaluators;
+    }
+
+    /*
+     * Doit être appelée avec le verrou acquis.
+     */
+    private void ensureRoom(int count)
+    {
+        int length = super.length();
+        if (length + count > mCapacity) throw new IllegalStateException("Evaluator full: capacity=" + mCapacity + " size=" + length + " requested=" + count);
+    }
+
+    private static int validate(int capacity)
+    {
+        if (capacity <= 0) throw new IllegalArgumentException("Illegal capacity " + capacity);
+
+        return capacity;
+    }
+}
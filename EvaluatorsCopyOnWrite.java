@@ -0,0 +1,506 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class EvaluatorsCopyOnWrite<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -8843170527315642019L;
+    private static final Object[] EMPTY_ITEMS = {};
+    private static final VarHandle ITEMS;
+
+    static {
+        try {
+            ITEMS = MethodHandles.lookup().findVarHandle(EvaluatorsCopyOnWrite.class, "mItems", Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /*
+     * Instantané immuable : le tableau publié n'est jamais modifié, sa taille est exactement le nombre d'éléments.
+     * Les lectures travaillent sur l'instantané courant sans verrou, les écritures construisent un nouveau tableau et le publient par compareAndSet.
+     */
+    private volatile Object[] mItems;
+
+    public EvaluatorsCopyOnWrite()
+    {
+        mItems = EMPTY_ITEMS;
+    }
+
+    public EvaluatorsCopyOnWrite(Collection<? extends Item> collection)
+    {
+        Object[] items = collection.toArray();
+        mItems = (items.length == 0) ? EMPTY_ITEMS : Arrays.copyOf(items, items.length, Object[].class);
+    }
+
+    public EvaluatorsCopyOnWrite(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        Object[] items = evaluator.toArray();
+        mItems = (items.length == 0) ? EMPTY_ITEMS : Arrays.copyOf(items, items.length, Object[].class);
+    }
+
+    public EvaluatorsCopyOnWrite(Item[] array)
+    {
+        mItems = (array.length == 0) ? EMPTY_ITEMS : Arrays.copyOf(array, array.length, Object[].class);
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            items = Arrays.copyOf(current, current.length + 1);
+            items[current.length] = item;
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            int length = current.length;
+            if (index < 0 || index > length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+length);
+            if (item == null) return;
+
+            items = new Object[length + 1];
+            System.arraycopy(current, 0, items, 0, index);
+            System.arraycopy(current, index, items, index + 1, length - index);
+            items[index] = item;
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            if (evaluateOf(current, eval) >= 0) return;
+
+            items = Arrays.copyOf(current, current.length + 1);
+            items[current.length] = item;
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            if (index < 0 || index >= current.length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+current.length);
+            if (item == null) return;
+
+            items = current.clone();
+            items[index] = item;
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            int index = evaluateOf(current, eval);
+            if (index < 0) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+current.length);
+            if (item == null) return;
+
+            items = current.clone();
+            items[index] = item;
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        insert(collection.toArray(), -1);
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        if (index < 0) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mItems.length);
+
+        insert(collection.toArray(), index);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        insert(evaluator.toArray(), -1);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        if (index < 0) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mItems.length);
+
+        insert(evaluator.toArray(), index);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        insertAbsent(collection.toArray(), extractor);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        insertAbsent(evaluator.toArray(), extractor);
+    }
+
+    @Override
+    public void clear()
+    {
+        mItems = EMPTY_ITEMS;
+    }
+
+    @Override
+    public void reverse()
+    {
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            int length = current.length;
+            if (length < 2) return;
+
+            items = new Object[length];
+            for (int i = 0; i < length; i++) items[i] = current[length - i - 1];
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    @Override
+    public void pop()
+    {
+        acquire();
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        Object[] items = mItems;
+
+        int index = evaluateOf(items, eval);
+        if (index < 0) return null;
+
+        //noinspection unchecked
+        return (Item)items[index];
+    }
+
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        Object[] current = mItems;
+        int[] indexes = Evaluations.indexOfAll(current, current.length, evals.toArray());
+
+        List<Item> items = new ArrayList<>(indexes.length);
+        //noinspection unchecked
+        for (int index : indexes) items.add((index < 0) ? null : (Item)current[index]);
+
+        return items;
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        Object[] items = mItems;
+        if (index < 0 || index >= items.length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+items.length);
+
+        //noinspection unchecked
+        return (Item)items[index];
+    }
+
+    @Override
+    public Item acquire()
+    {
+        Object[] current;
+        do {
+            current = mItems;
+            if (current.length == 0) return null;
+        } while (!ITEMS.compareAndSet(this, current, (current.length == 1) ? EMPTY_ITEMS : Arrays.copyOf(current, current.length - 1)));
+
+        //noinspection unchecked
+        return (Item)current[current.length - 1];
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        Object[] current;
+        do {
+            current = mItems;
+            if (current.length == 0) return null;
+        } while (!ITEMS.compareAndSet(this, current, (current.length == 1) ? EMPTY_ITEMS : Arrays.copyOfRange(current, 1, current.length)));
+
+        //noinspection unchecked
+        return (Item)current[0];
+    }
+
+    @Override
+    public Item peek()
+    {
+        Object[] items = mItems;
+        if (items.length == 0) return null;
+
+        //noinspection unchecked
+        return (Item)items[items.length - 1];
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        Object[] current = mItems;
+
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, current.length);
+
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(current, 0, items, 0, current.length);
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        Object[] current = mItems;
+        int length = current.length;
+        if (items.length < length) //noinspection unchecked
+            return (Item[])Arrays.copyOf(current, length, items.getClass());
+
+        System.arraycopy(current, 0, items, 0, length);
+        if (items.length > length) items[length] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return mItems.clone();
+    }
+
+    /*
+     * L'instantané courant n'est jamais modifié : il est parcouru directement, sans copie.
+     */
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(mItems, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int length()
+    {
+        return mItems.length;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return evaluateOf(mItems, eval);
+    }
+
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        Object[] current = mItems;
+        return Evaluations.indexOfAll(current, current.length, evals.toArray());
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        Object[] current = mItems;
+        return Evaluations.matches(current, current.length, eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        Object[] current = mItems;
+        return Evaluations.count(current, current.length, eval);
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        Object[] current;
+        do {
+            current = mItems;
+            int index = evaluateOf(current, eval);
+            if (index < 0) return false;
+
+            if (ITEMS.compareAndSet(this, current, without(current, index))) return true;
+        } while (true);
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        Object[] current;
+        do {
+            current = mItems;
+            if (index < 0 || index >= current.length) return false;
+        } while (!ITEMS.compareAndSet(this, current, without(current, index)));
+        return true;
+    }
+
+    /**
+     * Construit une seule copie filtrée par tentative : le filtre peut donc être appelé plusieurs fois pour un même élément en cas de concurrence.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        Object[] current;
+        Object[] next;
+        do {
+            current = mItems;
+            next = new Object[current.length];
+
+            int kept = 0;
+            for (Object item : current)
+            {
+                //noinspection unchecked
+                if (!filter.test((Item)item)) next[kept++] = item;
+            }
+            if (kept == current.length) return false;
+
+            next = (kept == 0) ? EMPTY_ITEMS : Arrays.copyOf(next, kept);
+        } while (!ITEMS.compareAndSet(this, current, next));
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mItems.length == 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        Object[] items = mItems;
+        if (items.length == 0) return "[]";
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+        for (int i = 0; i < items.length; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append(items[i]);
+        }
+        return builder.append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof EvaluatorsCopyOnWrite)) return false;
+
+        return Arrays.equals(mItems, ((EvaluatorsCopyOnWrite<?, ?>)object).mItems);
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        EvaluatorsCopyOnWrite<Eval, Item> evaluators = new EvaluatorsCopyOnWrite<>();
+        evaluators.mItems = mItems;
+
+        return evaluators;
+    }
+
+    private void insert(Object[] array, int index)
+    {
+        int count = array.length;
+        if (count == 0) return;
+
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+            int length = current.length;
+            int at = (index < 0) ? length : index;
+            if (at > length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+length);
+
+            items = new Object[length + count];
+            System.arraycopy(current, 0, items, 0, at);
+            System.arraycopy(array, 0, items, at, count);
+            System.arraycopy(current, at, items, at + count, length - at);
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    /*
+     * Le lot est filtré à nouveau contre chaque instantané tant que la comparaison et échange échoue.
+     */
+    private void insertAbsent(Object[] array, Function<? super Item, ? extends Eval> extractor)
+    {
+        Object[] current;
+        Object[] items;
+        do {
+            current = mItems;
+
+            Object[] candidates = array.clone();
+            int count = Evaluations.absent(current, current.length, candidates, extractor);
+            if (count == 0) return;
+
+            items = Arrays.copyOf(current, current.length + count);
+            System.arraycopy(candidates, 0, items, current.length, count);
+        } while (!ITEMS.compareAndSet(this, current, items));
+    }
+
+    private static Object[] without(Object[] current, int index)
+    {
+        int length = current.length - 1;
+        if (length == 0) return EMPTY_ITEMS;
+
+        Object[] items = new Object[length];
+        System.arraycopy(current, 0, items, 0, index);
+        System.arraycopy(current, index + 1, items, index, length - index);
+
+        return items;
+    }
+
+    private static <Eval> int evaluateOf(Object[] items, Eval eval)
+    {
+        if (eval == null) return -1;
+
+        for (int i = 0; i < items.length; i++)
+        {
+            //noinspection unchecked
+            if (((Evaluable<Eval>)items[i]).toEvaluate(eval)) return i;
+        }
+        return -1;
+    }
+}
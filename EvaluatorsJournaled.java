@@ -0,0 +1,671 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class EvaluatorsJournaled<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements Closeable, Flushable
+{
+    private static final int MAGIC = 0x45564A4C;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 1L << 20;
+
+    private static final byte PUSH = 1;
+    private static final byte PUSH_AT = 2;
+    private static final byte SET = 3;
+    private static final byte REMOVE = 4;
+    private static final byte POP = 5;
+    private static final byte ACQUIRE = 6;
+    private static final byte ACQUIRE_FIRST = 7;
+    private static final byte REVERSE = 8;
+    private static final byte CLEAR = 9;
+
+    /*
+     * Journal des mutations : chaque mutation appliquée à mEvaluators est ajoutée à un lot en mémoire, le lot est écrit et forcé sur disque (un seul write + force)
+     * lorsqu'il atteint mBatchSize enregistrements, ou par flush() et close(). Les mutations du lot en cours sont perdues en cas d'arrêt brutal.
+     *
+     * Le répertoire contient, pour la génération g courante, un instantané snapshot-g (absent pour la génération 0, voir Snapshots) et un journal journal-g.
+     * Au-delà de mCompactionThreshold enregistrements, compact() écrit l'état dans snapshot-(g+1), ouvre journal-(g+1) vide puis supprime les fichiers de la génération g :
+     * un arrêt à n'importe quelle étape laisse une génération complète, jamais un journal rejoué deux fois.
+     *
+     * Enregistrement : taille (int), opération (byte), position (int), élément encodé par le codec le cas échéant, CRC32 (int) de l'opération à l'élément.
+     * À l'ouverture, le rejeu s'arrête au premier enregistrement incomplet ou corrompu et le journal est tronqué à cet endroit.
+     * Les lectures sont servies par mEvaluators, sans accès disque.
+     */
+    private final Path mDirectory;
+    private final Evaluator.Codec<Item> mCodec;
+    private final int mBatchSize;
+    private final long mCompactionThreshold;
+    private final Evaluators<Eval, Item> mEvaluators;
+
+    private final ByteArrayOutputStream mRecord;
+    private final DataOutputStream mRecordOutput;
+    private final ByteArrayOutputStream mBatch;
+    private final DataOutputStream mBatchOutput;
+    private final CRC32 mChecksum;
+
+    private FileChannel mJournal;
+    private long mGeneration;
+    private long mRecords;
+    private int mPending;
+
+    public EvaluatorsJournaled(Path directory, Evaluator.Codec<Item> codec) throws IOException
+    {
+        this(directory, codec, DEFAULT_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Ouvre le journal du répertoire envoyé en paramètre, ou le crée, et reconstruit l'état à partir du dernier instantané et du rejeu du journal.
+     */
+    public EvaluatorsJournaled(Path directory, Evaluator.Codec<Item> codec, int batchSize, long compactionThreshold) throws IOException
+    {
+        if (directory == null) throw new IllegalArgumentException("Directory must not be null");
+        if (codec == null) throw new IllegalArgumentException("Codec must not be null");
+        if (batchSize <= 0) throw new IllegalArgumentException("Illegal batch size " + batchSize);
+        if (compactionThreshold <= 0L) throw new IllegalArgumentException("Illegal compaction threshold " + compactionThreshold);
+
+        mDirectory = directory;
+        mCodec = codec;
+        mBatchSize = batchSize;
+        mCompactionThreshold = compactionThreshold;
+
+        mRecord = new ByteArrayOutputStream();
+        mRecordOutput = new DataOutputStream(mRecord);
+        mBatch = new ByteArrayOutputStream();
+        mBatchOutput = new DataOutputStream(mBatch);
+        mChecksum = new CRC32();
+
+        Files.createDirectories(directory);
+        mGeneration = latestGeneration();
+
+        Path snapshot = snapshotOf(mGeneration);
+        mEvaluators = Files.exists(snapshot) ? new Evaluators<>(Evaluators.load(snapshot, codec)) : new Evaluators<>();
+
+        mJournal = openJournal(journalOf(mGeneration));
+        deleteGenerationsBefore(mGeneration);
+    }
+
+    /**
+     * Nombre d'enregistrements du journal depuis le dernier instantané.
+     */
+    public long records()
+    {
+        return mRecords;
+    }
+
+    /**
+     * Écrit et force sur disque le lot de mutations en cours.
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        write();
+        if (mRecords >= mCompactionThreshold) compact();
+    }
+
+    /**
+     * Écrit l'état courant dans un nouvel instantané et repart d'un journal vide.
+     */
+    public void compact() throws IOException
+    {
+        write();
+
+        long generation = mGeneration + 1;
+        Evaluators.save(mEvaluators, snapshotOf(generation), mCodec);
+
+        FileChannel journal = openJournal(journalOf(generation));
+        mJournal.close();
+
+        mJournal = journal;
+        mGeneration = generation;
+        mRecords = 0L;
+        deleteGenerationsBefore(generation);
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        try {
+            write();
+        } finally {
+            mJournal.close();
+        }
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        mEvaluators.push(item);
+        log(PUSH, 0, item);
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        mEvaluators.push(item, index);
+        if (item == null) return;
+
+        log(PUSH_AT, index, item);
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (mEvaluators.indexOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        mEvaluators.set(item, index);
+        if (item == null) return;
+
+        log(SET, index, item);
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, mEvaluators.indexOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        int length = mEvaluators.length();
+        mEvaluators.pushAll(nonNull(collection.toArray()));
+
+        for (int i = length; i < mEvaluators.length(); i++) append(PUSH, 0, mEvaluators.get(i));
+        commit();
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        int length = mEvaluators.length();
+        mEvaluators.pushAll(nonNull(collection.toArray()), index);
+
+        int count = mEvaluators.length() - length;
+        for (int i = index; i < index + count; i++) append(PUSH_AT, i, mEvaluators.get(i));
+        commit();
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        int length = mEvaluators.length();
+        mEvaluators.pushAll(nonNull(evaluator.toArray()));
+
+        for (int i = length; i < mEvaluators.length(); i++) append(PUSH, 0, mEvaluators.get(i));
+        commit();
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        int length = mEvaluators.length();
+        mEvaluators.pushAll(nonNull(evaluator.toArray()), index);
+
+        int count = mEvaluators.length() - length;
+        for (int i = index; i < index + count; i++) append(PUSH_AT, i, mEvaluators.get(i));
+        commit();
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = mEvaluators.length();
+        mEvaluators.pushAllIfAbsent(collection, extractor);
+
+        for (int i = length; i < mEvaluators.length(); i++) append(PUSH, 0, mEvaluators.get(i));
+        commit();
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = mEvaluators.length();
+        mEvaluators.pushAllIfAbsent(evaluator, extractor);
+
+        for (int i = length; i < mEvaluators.length(); i++) append(PUSH, 0, mEvaluators.get(i));
+        commit();
+    }
+
+    @Override
+    public void clear()
+    {
+        mEvaluators.clear();
+        log(CLEAR, 0, null);
+    }
+
+    @Override
+    public void trim()
+    {
+        mEvaluators.trim();
+    }
+
+    @Override
+    public void reverse()
+    {
+        mEvaluators.reverse();
+        log(REVERSE, 0, null);
+    }
+
+    @Override
+    public void pop()
+    {
+        if (mEvaluators.isEmpty()) return;
+
+        mEvaluators.pop();
+        log(POP, 0, null);
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        return mEvaluators.evaluate(eval);
+    }
+
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        return mEvaluators.evaluateAll(evals);
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        return mEvaluators.get(index);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        Item item = mEvaluators.acquire();
+        if (item != null) log(ACQUIRE, 0, null);
+
+        return item;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        Item item = mEvaluators.acquireFirst();
+        if (item != null) log(ACQUIRE_FIRST, 0, null);
+
+        return item;
+    }
+
+    @Override
+    public Item peek()
+    {
+        return mEvaluators.peek();
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        return mEvaluators.toArray(type);
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        return mEvaluators.toArray(items);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return mEvaluators.toArray();
+    }
+
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return mEvaluators.spliterator();
+    }
+
+    @Override
+    public int length()
+    {
+        return mEvaluators.length();
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return mEvaluators.indexOf(eval);
+    }
+
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        return mEvaluators.indexOfAll(evals);
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        return mEvaluators.matches(eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        return mEvaluators.count(eval);
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(mEvaluators.indexOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (!mEvaluators.remove(index)) return false;
+
+        log(REMOVE, index, null);
+        return true;
+    }
+
+    /**
+     * Un enregistrement REMOVE par élément retiré, à sa position au moment du retrait, puis une seule validation.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        /*
+         * Le filtre est appliqué à tous les éléments avant toute modification : s'il lève une exception, ni la mémoire ni le journal ne changent.
+         */
+        final BitSet removed = new BitSet();
+        final int length = mEvaluators.length();
+        for (int i = 0; i < length; i++) if (filter.test(mEvaluators.get(i))) removed.set(i);
+        if (removed.isEmpty()) return false;
+
+        /*
+         * Evaluators.removeIf examine les éléments une seule fois, dans l'ordre.
+         */
+        final int[] position = {0};
+        mEvaluators.removeIf(item -> removed.get(position[0]++));
+
+        int shift = 0;
+        for (int i = removed.nextSetBit(0); i >= 0; i = removed.nextSetBit(i + 1)) append(REMOVE, i - shift++, null);
+        commit();
+
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mEvaluators.isEmpty();
+    }
+
+    @Override
+    public String toString()
+    {
+        return mEvaluators.toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof EvaluatorsJournaled)) return false;
+
+        return mEvaluators.equals(((EvaluatorsJournaled<?, ?>)object).mEvaluators);
+    }
+
+    /**
+     * La copie n'est pas journalisée.
+     */
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return mEvaluators.clone();
+    }
+
+    /*
+     * Comme push, les ajouts groupés ignorent les éléments nuls : un enregistrement PUSH sans contenu ne pourrait pas être rejoué par le codec.
+     */
+    private List<Item> nonNull(Object[] items)
+    {
+        List<Item> list = new ArrayList<>(items.length);
+        for (Object item : items)
+        {
+            //noinspection unchecked
+            if (item != null) list.add((Item)item);
+        }
+        return list;
+    }
+
+    private void log(byte operation, int index, Item item)
+    {
+        append(operation, index, item);
+        commit();
+    }
+
+    private void append(byte operation, int index, Item item)
+    {
+        try {
+            mRecord.reset();
+            mRecordOutput.writeByte(operation);
+            mRecordOutput.writeInt(index);
+            if (item != null) mCodec.encode(item, mRecordOutput);
+            mRecordOutput.flush();
+
+            byte[] record = mRecord.toByteArray();
+            mChecksum.reset();
+            mChecksum.update(record);
+
+            mBatchOutput.writeInt(record.length);
+            mBatchOutput.write(record);
+            mBatchOutput.writeInt((int)mChecksum.getValue());
+
+            mRecords++;
+            mPending++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Appelée une fois la mutation entièrement journalisée : une compaction au milieu d'une mutation à plusieurs enregistrements (pushAll)
+     * écrirait un instantané contenant déjà les éléments des enregistrements suivants, qui seraient alors rejoués deux fois.
+     */
+    private void commit()
+    {
+        if (mPending < mBatchSize) return;
+
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Group commit : tout le lot est écrit d'un seul tenant puis forcé sur disque une seule fois.
+     */
+    private void write() throws IOException
+    {
+        if (mPending == 0) return;
+
+        mBatchOutput.flush();
+        ByteBuffer buffer = ByteBuffer.wrap(mBatch.toByteArray());
+        while (buffer.hasRemaining()) mJournal.write(buffer);
+        mJournal.force(false);
+
+        mBatch.reset();
+        mPending = 0;
+    }
+
+    /*
+     * Ouvre le journal, le crée si besoin, rejoue ses enregistrements sur mEvaluators et le tronque après le dernier enregistrement valide.
+     */
+    private FileChannel openJournal(Path path) throws IOException
+    {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long valid = HEADER_BYTES;
+            if (channel.size() < HEADER_BYTES)
+            {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+                header.flip();
+
+                channel.truncate(0L);
+                while (header.hasRemaining()) channel.write(header, HEADER_BYTES - header.remaining());
+                channel.force(false);
+            }
+            else valid = replay(channel, path);
+
+            channel.truncate(valid);
+            channel.position(valid);
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private long replay(FileChannel channel, Path path) throws IOException
+    {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0L))));
+        if (input.readInt() != MAGIC) throw new IOException("Not a journal: " + path);
+        if (input.readInt() != VERSION) throw new IOException("Unsupported journal version: " + path);
+
+        final long size = channel.size();
+        long valid = HEADER_BYTES;
+        while (true) {
+            byte[] record;
+            try {
+                int length = input.readInt();
+                if (length < 5 || valid + length + 8 > size) break;
+
+                record = new byte[length];
+                input.readFully(record);
+
+                mChecksum.reset();
+                mChecksum.update(record);
+                if (input.readInt() != (int)mChecksum.getValue()) break;
+            } catch (EOFException e) {
+                break;
+            }
+
+            apply(record);
+            valid += record.length + 8;
+            mRecords++;
+        }
+        return valid;
+    }
+
+    private void apply(byte[] record)
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        byte operation = buffer.get();
+        int index = buffer.getInt();
+
+        switch (operation) {
+            case PUSH -> mEvaluators.push(mCodec.decode(buffer.slice()));
+            case PUSH_AT -> mEvaluators.push(mCodec.decode(buffer.slice()), index);
+            case SET -> mEvaluators.set(mCodec.decode(buffer.slice()), index);
+            case REMOVE -> mEvaluators.remove(index);
+            case POP -> mEvaluators.pop();
+            case ACQUIRE -> mEvaluators.acquire();
+            case ACQUIRE_FIRST -> mEvaluators.acquireFirst();
+            case REVERSE -> mEvaluators.reverse();
+            case CLEAR -> mEvaluators.clear();
+            default -> throw new IllegalStateException("Unknown journal operation " + operation);
+        }
+    }
+
+    /*
+     * Génération courante : celle du plus récent instantané, 0 s'il n'y en a aucun.
+     */
+    private long latestGeneration() throws IOException
+    {
+        long latest = 0L;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(mDirectory, "snapshot-*")) {
+            for (Path file : files)
+            {
+                long generation = generationOf(file, "snapshot-");
+                if (generation > latest) latest = generation;
+            }
+        }
+        return latest;
+    }
+
+    private void deleteGenerationsBefore(long generation) throws IOException
+    {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(mDirectory, "{snapshot,journal}-*")) {
+            for (Path file : files)
+            {
+                String name = file.getFileName().toString();
+                long other = generationOf(file, name.startsWith("snapshot-") ? "snapshot-" : "journal-");
+                if (other >= 0L && other < generation) Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Path snapshotOf(long generation)
+    {
+        return mDirectory.resolve("snapshot-" + generation);
+    }
+
+    private Path journalOf(long generation)
+    {
+        return mDirectory.resolve("journal-" + generation);
+    }
+
+    private static long generationOf(Path file, String prefix)
+    {
+        try {
+            return Long.parseLong(file.getFileName().toString().substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /*
+     * Le journal n'est pas sérialisable : l'instance est remplacée par l'état courant.
+     */
+    @Serial
+    private Object writeReplace()
+    {
+        return mEvaluators;
+    }
+}
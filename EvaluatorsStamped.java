@@ -0,0 +1,488 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class EvaluatorsStamped<Eval, Item extends Evaluator.Evaluable<Eval>> extends Evaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -2618400752399021473L;
+
+    /*
+     * Un StampedLock n'est pas réentrant : les méthodes composées n'appellent que les méthodes de Evaluators (super), jamais les méthodes redéfinies ici.
+     * Les accès qui n'appellent aucun code de l'élément (get, peek, length, isEmpty, toArray) sont d'abord tentés sans verrou (lecture optimiste) puis validés ; en cas d'écriture concurrente, ils sont rejoués sous verrou de lecture.
+     * Les parcours (evaluate, indexOf, matches, count...) prennent directement le verrou de lecture : ils appellent toEvaluate, éventuellement depuis un ForkJoinPool,
+     * qui ne doit jamais observer un état intermédiaire (élément nul ou périmé) avant l'échec de la validation.
+     * Contrairement à un bloc synchronized, un StampedLock ne bloque pas le thread porteur d'un thread virtuel.
+     */
+    private final StampedLock mLock;
+
+    public EvaluatorsStamped()
+    {
+        super();
+        mLock = new StampedLock();
+    }
+
+    public EvaluatorsStamped(Collection<? extends Item> collection)
+    {
+        super(collection);
+        mLock = new StampedLock();
+    }
+
+    public EvaluatorsStamped(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        super(evaluator);
+        mLock = new StampedLock();
+    }
+
+    public EvaluatorsStamped(Item[] array)
+    {
+        super(array);
+        mLock = new StampedLock();
+    }
+
+    public EvaluatorsStamped(int initialCapacity)
+    {
+        super(initialCapacity);
+        mLock = new StampedLock();
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.push(item);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.push(item, index);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            if (item == null || super.indexOf(eval) >= 0) return;
+
+            super.push(item);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.set(item, index);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.set(item, super.indexOf(eval));
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pushAll(collection);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pushAll(collection, index);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pushAll(source(evaluator));
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pushAll(source(evaluator), index);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pushAllIfAbsent(collection, extractor);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pushAllIfAbsent(source(evaluator), extractor);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.clear();
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void trim()
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.trim();
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void reverse()
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.reverse();
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void pop()
+    {
+        long stamp = mLock.writeLock();
+        try {
+            super.pop();
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        return scan(() -> super.evaluate(eval));
+    }
+
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        return scan(() -> super.evaluateAll(evals));
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        return read(() -> super.get(index));
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        return read(() -> super.toArray(type));
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        return read(() -> super.toArray(items));
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return read(super::toArray);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        long stamp = mLock.writeLock();
+        try {
+            return super.acquire();
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        long stamp = mLock.writeLock();
+        try {
+            return super.acquireFirst();
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Item peek()
+    {
+        return read(super::peek);
+    }
+
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int length()
+    {
+        return readInt(super::length);
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return scanInt(() -> super.indexOf(eval));
+    }
+
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        return scan(() -> super.indexOfAll(evals));
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        return scan(() -> super.matches(eval));
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        return scanInt(() -> super.count(eval));
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            return super.remove(super.indexOf(eval));
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            return super.remove(index);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        long stamp = mLock.writeLock();
+        try {
+            return super.removeIf(filter);
+        } finally {
+            mLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return readInt(super::length) <= 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        long stamp = mLock.readLock();
+        try {
+            return super.toString();
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        long stamp = mLock.readLock();
+        try {
+            return super.equals(object);
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new EvaluatorsStamped<>(this);
+    }
+
+    /*
+     * Verrou de lecture classique : une copie optimiste ne peut pas être annulée une fois faite dans target.
+     */
+    @Override
+    void copyInto(Evaluators<?, ?> target, int index)
+    {
+        long stamp = mLock.readLock();
+        try {
+            super.copyInto(target, index);
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+
+    /*
+     * Le verrou n'étant pas réentrant, une instance passée à elle-même sous le verrou d'écriture ne doit pas être lue par ses méthodes redéfinies (toArray, copyInto),
+     * qui attendraient indéfiniment le verrou de lecture : elle est remplacée par une copie de ses éléments faite par Evaluators.toArray, sans verrou.
+     */
+    private Evaluator<? extends Eval, ? extends Item> source(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        if (evaluator != this) return evaluator;
+
+        //noinspection unchecked
+        return new Evaluators<>((List<Item>)(List<?>)Arrays.asList(super.toArray()));
+    }
+
+    /*
+     * Une lecture optimiste peut observer un état intermédiaire et lever une exception : elle n'est propagée que si le tampon est toujours valide.
+     */
+    private <T> T read(Supplier<T> reader)
+    {
+        long stamp = mLock.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try {
+                T value = reader.get();
+                if (mLock.validate(stamp)) return value;
+            } catch (RuntimeException e) {
+                if (mLock.validate(stamp)) throw e;
+            }
+        }
+
+        stamp = mLock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+
+    private int readInt(IntSupplier reader)
+    {
+        long stamp = mLock.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try {
+                int value = reader.getAsInt();
+                if (mLock.validate(stamp)) return value;
+            } catch (RuntimeException e) {
+                if (mLock.validate(stamp)) throw e;
+            }
+        }
+
+        stamp = mLock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+
+    private <T> T scan(Supplier<T> reader)
+    {
+        long stamp = mLock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+
+    private int scanInt(IntSupplier reader)
+    {
+        long stamp = mLock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            mLock.unlockRead(stamp);
+        }
+    }
+}
@@ -0,0 +1,633 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class EvaluatorsStriped<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 7350018842690257114L;
+
+    /*
+     * Les éléments sont répartis entre plusieurs segments, chacun protégé par son propre verrou : des ajouts concurrents sur des segments différents ne se bloquent pas.
+     * L'ordre global est la concaténation des segments. Les opérations positionnelles (get, set, push(item, index), remove(index), indexOf) et toArray verrouillent tous les segments, dans l'ordre, pour obtenir une vue cohérente.
+     * Les autres lectures (evaluate, length, peek) verrouillent les segments un par un et sont donc faiblement cohérentes.
+     */
+    private final Evaluators<Eval, Item>[] mSegments;
+    private final ReentrantLock[] mLocks;
+    private final Function<? super Item, ?> mKey;
+
+    /**
+     * Répartit les ajouts selon le thread appelant.
+     */
+    public EvaluatorsStriped(int stripes)
+    {
+        this(stripes, null);
+    }
+
+    /**
+     * Répartit les ajouts selon le hachage de la clé de chaque élément.
+     */
+    public EvaluatorsStriped(int stripes, Function<? super Item, ?> key)
+    {
+        if (stripes <= 0) throw new IllegalArgumentException("Illegal stripe count " + stripes);
+
+        //noinspection unchecked
+        mSegments = (Evaluators<Eval, Item>[])new Evaluators[stripes];
+        mLocks = new ReentrantLock[stripes];
+        mKey = key;
+
+        for (int i = 0; i < stripes; i++)
+        {
+            mSegments[i] = new Evaluators<>();
+            mLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public int stripes()
+    {
+        return mSegments.length;
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        final int s = stripeOf(item);
+        mLocks[s].lock();
+        try {
+            mSegments[s].push(item);
+        } finally {
+            mLocks[s].unlock();
+        }
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        lockAll();
+        try {
+            int length = total();
+            if (index < 0 || index > length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+length);
+
+            int s = 0;
+            while (s < mSegments.length - 1 && index > mSegments[s].length()) index -= mSegments[s++].length();
+
+            mSegments[s].push(item, index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+
+        lockAll();
+        try {
+            for (Evaluators<Eval, Item> segment : mSegments) if (segment.indexOf(eval) >= 0) return;
+
+            mSegments[stripeOf(item)].push(item);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        lockAll();
+        try {
+            int length = total();
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+length);
+
+            int s = 0;
+            while (index >= mSegments[s].length()) index -= mSegments[s++].length();
+
+            mSegments[s].set(item, index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        lockAll();
+        try {
+            for (Evaluators<Eval, Item> segment : mSegments)
+            {
+                int index = segment.indexOf(eval);
+                if (index >= 0)
+                {
+                    segment.set(item, index);
+                    return;
+                }
+            }
+            throw new IndexOutOfBoundsException("Array index out of bounds: index=-1 size="+total());
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        distribute(collection.toArray());
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        final Collection<? extends Item> items = Evaluations.nonNull(collection);
+
+        lockAll();
+        try {
+            int length = total();
+            if (index < 0 || index > length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+length);
+
+            int s = 0;
+            while (s < mSegments.length - 1 && index > mSegments[s].length()) index -= mSegments[s++].length();
+
+            mSegments[s].pushAll(items, index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        distribute(evaluator.toArray());
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        final Evaluator<? extends Eval, ? extends Item> items = Evaluations.<Eval, Item>nonNull(evaluator);
+
+        lockAll();
+        try {
+            int length = total();
+            if (index < 0 || index > length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+length);
+
+            int s = 0;
+            while (s < mSegments.length - 1 && index > mSegments[s].length()) index -= mSegments[s++].length();
+
+            mSegments[s].pushAll(items, index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        lockAll();
+        try {
+            super.pushAllIfAbsent(collection, extractor);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        lockAll();
+        try {
+            super.pushAllIfAbsent(evaluator, extractor);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        lockAll();
+        try {
+            for (Evaluators<Eval, Item> segment : mSegments) segment.clear();
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void trim()
+    {
+        for (int s = 0; s < mSegments.length; s++)
+        {
+            mLocks[s].lock();
+            try {
+                mSegments[s].trim();
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+    }
+
+    @Override
+    public void reverse()
+    {
+        lockAll();
+        try {
+            /*
+             * L'ordre global est la concaténation des segments : chaque segment est inversé puis les segments sont permutés.
+             * La répartition ne sert qu'à étaler les ajouts, un élément peut donc changer de segment sans conséquence.
+             */
+            int left = 0;
+            int right = mSegments.length - 1;
+            while (left <= right) {
+                Evaluators<Eval, Item> start = mSegments[left];
+                Evaluators<Eval, Item> end = mSegments[right];
+
+                start.reverse();
+                if (left != right) end.reverse();
+
+                mSegments[left++] = end;
+                mSegments[right--] = start;
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void pop()
+    {
+        acquire();
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        for (int s = 0; s < mSegments.length; s++)
+        {
+            mLocks[s].lock();
+            try {
+                Item item = mSegments[s].evaluate(eval);
+                if (item != null) return item;
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        Object[] current = toArray();
+        int[] indexes = Evaluations.indexOfAll(current, current.length, evals.toArray());
+
+        List<Item> items = new ArrayList<>(indexes.length);
+        //noinspection unchecked
+        for (int index : indexes) items.add((index < 0) ? null : (Item)current[index]);
+
+        return items;
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        lockAll();
+        try {
+            int length = total();
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+length);
+
+            int s = 0;
+            while (index >= mSegments[s].length()) index -= mSegments[s++].length();
+
+            return mSegments[s].get(index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public Item acquire()
+    {
+        for (int s = mSegments.length - 1; s >= 0; s--)
+        {
+            mLocks[s].lock();
+            try {
+                Item item = mSegments[s].acquire();
+                if (item != null) return item;
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        for (int s = 0; s < mSegments.length; s++)
+        {
+            mLocks[s].lock();
+            try {
+                Item item = mSegments[s].acquireFirst();
+                if (item != null) return item;
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Item peek()
+    {
+        for (int s = mSegments.length - 1; s >= 0; s--)
+        {
+            mLocks[s].lock();
+            try {
+                Item item = mSegments[s].peek();
+                if (item != null) return item;
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        Object[] items = toArray();
+
+        //noinspection unchecked
+        Item[] array = (Item[])Array.newInstance(type, items.length);
+
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(items, 0, array, 0, items.length);
+        return array;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        Object[] array = toArray();
+        if (items.length < array.length) //noinspection unchecked
+            return (Item[])Arrays.copyOf(array, array.length, items.getClass());
+
+        System.arraycopy(array, 0, items, 0, array.length);
+        if (items.length > array.length) items[array.length] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        lockAll();
+        try {
+            Object[] items = new Object[total()];
+
+            int offset = 0;
+            for (Evaluators<Eval, Item> segment : mSegments)
+            {
+                Object[] array = segment.toArray();
+                System.arraycopy(array, 0, items, offset, array.length);
+                offset += array.length;
+            }
+            return items;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public int length()
+    {
+        int length = 0;
+        for (int s = 0; s < mSegments.length; s++)
+        {
+            mLocks[s].lock();
+            try {
+                length += mSegments[s].length();
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        lockAll();
+        try {
+            int offset = 0;
+            for (Evaluators<Eval, Item> segment : mSegments)
+            {
+                int index = segment.indexOf(eval);
+                if (index >= 0) return offset + index;
+
+                offset += segment.length();
+            }
+            return -1;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        Object[] current = toArray();
+        return Evaluations.indexOfAll(current, current.length, evals.toArray());
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        Object[] current = toArray();
+        return Evaluations.matches(current, current.length, eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        int count = 0;
+        for (int s = 0; s < mSegments.length; s++)
+        {
+            mLocks[s].lock();
+            try {
+                count += mSegments[s].count(eval);
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        for (int s = 0; s < mSegments.length; s++)
+        {
+            mLocks[s].lock();
+            try {
+                if (mSegments[s].remove(eval)) return true;
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        lockAll();
+        try {
+            if (index < 0 || index >= total()) return false;
+
+            int s = 0;
+            while (index >= mSegments[s].length()) index -= mSegments[s++].length();
+
+            return mSegments[s].remove(index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        lockAll();
+        try {
+            boolean removed = false;
+            for (Evaluators<Eval, Item> segment : mSegments) removed |= segment.removeIf(filter);
+
+            return removed;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return length() <= 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof EvaluatorsStriped)) return false;
+
+        return Arrays.equals(toArray(), ((EvaluatorsStriped<?, ?>)object).toArray());
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        EvaluatorsStriped<Eval, Item> evaluators = new EvaluatorsStriped<>(mSegments.length, mKey);
+
+        lockAll();
+        try {
+            for (int s = 0; s < mSegments.length; s++) evaluators.mSegments[s].pushAll(mSegments[s]);
+        } finally {
+            unlockAll();
+        }
+        return evaluators;
+    }
+
+    /*
+     * Regroupe les éléments par segment pour ne prendre chaque verrou qu'une seule fois. Les éléments nuls sont ignorés, comme par push.
+     */
+    private void distribute(Object[] items)
+    {
+        //noinspection unchecked
+        List<Item>[] buckets = (List<Item>[])new List[mSegments.length];
+        for (Object object : items)
+        {
+            //noinspection unchecked
+            Item item = (Item)object;
+            if (item == null) continue;
+
+            int s = stripeOf(item);
+            if (buckets[s] == null) buckets[s] = new ArrayList<>();
+            buckets[s].add(item);
+        }
+
+        for (int s = 0; s < buckets.length; s++)
+        {
+            if (buckets[s] == null) continue;
+
+            mLocks[s].lock();
+            try {
+                mSegments[s].pushAll(buckets[s]);
+            } finally {
+                mLocks[s].unlock();
+            }
+        }
+    }
+
+    /*
+     * Segment d'un élément non nul : celui du thread appelant sans fonction de clé, celui du hachage de sa clé sinon.
+     */
+    private int stripeOf(Item item)
+    {
+        if (item == null) throw new IllegalArgumentException("Item must not be null");
+        if (mKey == null) return threadStripe();
+
+        Object key = mKey.apply(item);
+        return spread((key == null) ? 0 : key.hashCode());
+    }
+
+    private int threadStripe()
+    {
+        return spread(Thread.currentThread().hashCode());
+    }
+
+    private int spread(int hash)
+    {
+        return Math.floorMod(hash ^ (hash >>> 16), mSegments.length);
+    }
+
+    /*
+     * Doit être appelée avec tous les verrous acquis.
+     */
+    private int total()
+    {
+        int length = 0;
+        for (Evaluators<Eval, Item> segment : mSegments) length += segment.length();
+
+        return length;
+    }
+
+    private void lockAll()
+    {
+        for (ReentrantLock lock : mLocks) lock.lock();
+    }
+
+    private void unlockAll()
+    {
+        for (int s = mLocks.length - 1; s >= 0; s--) mLocks[s].unlock();
+    }
+}
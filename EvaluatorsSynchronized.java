@@ -1,6 +1,14 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Created on : 27/03/2022
@@ -12,7 +20,7 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
     @Serial
     private static final long serialVersionUID = 5182765180467492991L;
 
-    private final Object mMonitor;
+    private transient Object mMonitor;
 
     public EvaluatorsSynchronized()
     {
@@ -116,6 +124,22 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
         }
     }
 
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        synchronized (mMonitor) {
+            super.pushAllIfAbsent(collection, extractor);
+        }
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        synchronized (mMonitor) {
+            super.pushAllIfAbsent(evaluator, extractor);
+        }
+    }
+
     @Override
     public void clear()
     {
@@ -156,6 +180,14 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
         }
     }
 
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        synchronized (mMonitor) {
+            return super.evaluateAll(evals);
+        }
+    }
+
     @Override
     public Item get(int index)
     {
@@ -212,6 +244,17 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
         }
     }
 
+    /*
+     * Le parcours se fait sur un instantané copié sous verrou, pour ne pas garder le verrou pendant toute la durée du flux.
+     */
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        synchronized (mMonitor) {
+            return Spliterators.spliterator(super.toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+    }
+
     @Override
     public int length()
     {
@@ -228,6 +271,30 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
         }
     }
 
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        synchronized (mMonitor) {
+            return super.indexOfAll(evals);
+        }
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        synchronized (mMonitor) {
+            return super.matches(eval);
+        }
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        synchronized (mMonitor) {
+            return super.count(eval);
+        }
+    }
+
     @Override
     public boolean remove(Eval eval)
     {
@@ -244,6 +311,17 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
         }
     }
 
+    /**
+     * Le verrou est pris une seule fois pour toute la passe, removeAll et retainAll passent par removeIf.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        synchronized (mMonitor) {
+            return super.removeIf(filter);
+        }
+    }
+
     @Override
     public boolean isEmpty()
     {
@@ -275,4 +353,20 @@ public class EvaluatorsSynchronized<Eval, Item extends Evaluator.Evaluable<Eval>
             return super.clone();
         }
     }
+
+    @Override
+    void copyInto(Evaluators<?, ?> target, int index)
+    {
+        synchronized (mMonitor) {
+            super.copyInto(target, index);
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        mMonitor = new Object();
+    }
 }
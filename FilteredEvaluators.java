@@ -0,0 +1,365 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class FilteredEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends Evaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 8120541937468203155L;
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASHES = 7;
+    private static final int MIN_KEYS = 64;
+
+    /*
+     * Filtre de Bloom sur les clés données par l'extracteur (10 bits par clé, 7 fonctions de hachage, environ 1 % de faux positifs).
+     * Si le filtre ne contient pas eval, aucun élément ne peut le satisfaire : evaluate, indexOf, remove(eval), set(item, eval), pushIfAbsent et count répondent sans parcourir les éléments.
+     * Une clé ne peut pas être retirée d'un filtre de Bloom : les retraits et remplacements sont comptés dans mStale, et le filtre est reconstruit lorsqu'ils dépassent
+     * la moitié des éléments, ou lorsque le nombre de clés insérées dépasse celui pour lequel il a été dimensionné.
+     * L'extracteur doit être cohérent avec toEvaluate : item.toEvaluate(eval) implique eval.equals(extracteur.apply(item)).
+     */
+    private final Function<? super Item, ? extends Eval> mExtractor;
+
+    private transient long[] mBits;
+    private transient int mKeys;
+    private transient int mInserted;
+    private transient int mStale;
+
+    public FilteredEvaluators(Function<? super Item, ? extends Eval> extractor)
+    {
+        super();
+        mExtractor = validate(extractor);
+        rebuild();
+    }
+
+    public FilteredEvaluators(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(collection);
+        mExtractor = validate(extractor);
+        rebuild();
+    }
+
+    public FilteredEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(evaluator);
+        mExtractor = validate(extractor);
+        rebuild();
+    }
+
+    public FilteredEvaluators(Item[] array, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(array);
+        mExtractor = validate(extractor);
+        rebuild();
+    }
+
+    public FilteredEvaluators(int initialCapacity, Function<? super Item, ? extends Eval> extractor)
+    {
+        super(initialCapacity);
+        mExtractor = validate(extractor);
+        rebuild();
+    }
+
+    /**
+     * Retourne false si aucun élément ne peut satisfaire eval, true s'il est possible qu'un élément le satisfasse.
+     */
+    public boolean mightContain(Eval eval)
+    {
+        if (eval == null) return false;
+
+        int hash = mix(eval.hashCode());
+        int step = (hash >>> 17) | (hash << 15) | 1;
+
+        final long bits = (long)mBits.length << 6;
+        for (int i = 0; i < HASHES; i++)
+        {
+            long bit = Integer.toUnsignedLong(hash + i * step) % bits;
+            if ((mBits[(int)(bit >>> 6)] & (1L << bit)) == 0L) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        super.push(item);
+        add(item);
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        super.push(item, index);
+        if (item == null) return;
+
+        add(item);
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (mightContain(eval) && super.indexOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        super.set(item, index);
+        if (item == null) return;
+
+        mStale++;
+        add(item);
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, indexOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        int length = length();
+        super.pushAll(Evaluations.nonNull(collection));
+
+        added(length, length() - length);
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        int length = length();
+        super.pushAll(Evaluations.nonNull(collection), index);
+
+        added(index, length() - length);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        int length = length();
+        super.pushAll(Evaluations.<Eval, Item>nonNull(evaluator));
+
+        added(length, length() - length);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        int length = length();
+        super.pushAll(Evaluations.<Eval, Item>nonNull(evaluator), index);
+
+        added(index, length() - length);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(collection, extractor);
+
+        added(length, length() - length);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Eval, ? extends Item> evaluator, Function<? super Item, ? extends Eval> extractor)
+    {
+        int length = length();
+        super.pushAllIfAbsent(evaluator, extractor);
+
+        added(length, length() - length);
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        rebuild();
+    }
+
+    @Override
+    public void pop()
+    {
+        if (isEmpty()) return;
+
+        super.pop();
+        removed();
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        if (!mightContain(eval)) return null;
+
+        return super.evaluate(eval);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        Item item = super.acquire();
+        if (item != null) removed();
+
+        return item;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        Item item = super.acquireFirst();
+        if (item != null) removed();
+
+        return item;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        if (!mightContain(eval)) return -1;
+
+        return super.indexOf(eval);
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        if (!mightContain(eval)) return new BitSet();
+
+        return super.matches(eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        if (!mightContain(eval)) return 0;
+
+        return super.count(eval);
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(indexOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (!super.remove(index)) return false;
+
+        removed();
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        try {
+            return super.removeIf(filter);
+        } finally {
+            rebuild();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Eval eval)
+    {
+        if (!mightContain(eval)) return false;
+
+        return super.removeAll(eval);
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new FilteredEvaluators<>(this, mExtractor);
+    }
+
+    private void add(Item item)
+    {
+        if (++mInserted > mKeys)
+        {
+            rebuild();
+            return;
+        }
+
+        Eval key = mExtractor.apply(item);
+        if (key == null) return;
+
+        int hash = mix(key.hashCode());
+        int step = (hash >>> 17) | (hash << 15) | 1;
+
+        final long bits = (long)mBits.length << 6;
+        for (int i = 0; i < HASHES; i++)
+        {
+            long bit = Integer.toUnsignedLong(hash + i * step) % bits;
+            mBits[(int)(bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private void added(int index, int count)
+    {
+        for (int i = index; i < index + count; i++) add(get(i));
+    }
+
+    private void removed()
+    {
+        if (++mStale > MIN_KEYS && mStale > length() / 2) rebuild();
+    }
+
+    /*
+     * Redimensionne le filtre pour deux fois le nombre d'éléments et y ajoute toutes les clés actuelles.
+     */
+    private void rebuild()
+    {
+        final int length = length();
+
+        mKeys = Math.max(MIN_KEYS, length << 1);
+        mBits = new long[(int)(((long)mKeys * BITS_PER_KEY + 63) >>> 6)];
+        mInserted = 0;
+        mStale = 0;
+
+        for (int i = 0; i < length; i++) add(get(i));
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        rebuild();
+    }
+
+    private static int mix(int hash)
+    {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+
+    private static <Eval, Item> Function<? super Item, ? extends Eval> validate(Function<? super Item, ? extends Eval> extractor)
+    {
+        if (extractor == null) throw new IllegalArgumentException("Extractor must not be null");
+
+        return extractor;
+    }
+}
@@ -0,0 +1,361 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class HashedEvaluators<Key, Item extends Evaluator.KeyedEvaluable<Key>> extends Evaluators<Key, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -3071549182604395617L;
+
+    /*
+     * Index de hachage maintenu à côté du tableau primitif : pour chaque clé, la plus petite position occupée et le nombre d'éléments partageant cette clé.
+     */
+    private transient HashMap<Key, Slot> mIndex;
+
+    public HashedEvaluators()
+    {
+        super();
+        mIndex = new HashMap<>();
+    }
+
+    public HashedEvaluators(Collection<? extends Item> collection)
+    {
+        super(collection);
+        mIndex = new HashMap<>();
+        rebuild();
+    }
+
+    public HashedEvaluators(Evaluator<? extends Key, ? extends Item> evaluator)
+    {
+        super(evaluator);
+        mIndex = new HashMap<>();
+        rebuild();
+    }
+
+    public HashedEvaluators(Item[] array)
+    {
+        super(array);
+        mIndex = new HashMap<>();
+        rebuild();
+    }
+
+    public HashedEvaluators(int initialCapacity)
+    {
+        super(initialCapacity);
+        mIndex = new HashMap<>();
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        super.push(item);
+        index(item, length() - 1);
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        super.push(item, index);
+        if (item == null) return;
+
+        shift(index, 1);
+        index(item, index);
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Key key)
+    {
+        if (item == null) return;
+        if (key != null && mIndex.containsKey(key)) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        Item previous = get(index);
+        if (item == null) return;
+
+        unindex(previous, index);
+        super.set(item, index);
+        index(item, index);
+    }
+
+    @Override
+    public void set(Item item, Key key)
+    {
+        set(item, indexOf(key));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        int from = length();
+        super.pushAll(Evaluations.nonNull(collection));
+        indexRange(from, length());
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        int length = length();
+        super.pushAll(Evaluations.nonNull(collection), index);
+
+        int count = length() - length;
+        if (count == 0) return;
+
+        shift(index, count);
+        indexRange(index, index + count);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Key, ? extends Item> evaluator)
+    {
+        int from = length();
+        super.pushAll(Evaluations.<Key, Item>nonNull(evaluator));
+        indexRange(from, length());
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Key, ? extends Item> evaluator, int index)
+    {
+        int length = length();
+        super.pushAll(Evaluations.<Key, Item>nonNull(evaluator), index);
+
+        int count = length() - length;
+        if (count == 0) return;
+
+        shift(index, count);
+        indexRange(index, index + count);
+    }
+
+    @Override
+    public void pushAllIfAbsent(Collection<? extends Item> collection, Function<? super Item, ? extends Key> extractor)
+    {
+        int from = length();
+        super.pushAllIfAbsent(collection, extractor);
+        indexRange(from, length());
+    }
+
+    @Override
+    public void pushAllIfAbsent(Evaluator<? extends Key, ? extends Item> evaluator, Function<? super Item, ? extends Key> extractor)
+    {
+        int from = length();
+        super.pushAllIfAbsent(evaluator, extractor);
+        indexRange(from, length());
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        mIndex.clear();
+    }
+
+    @Override
+    public void reverse()
+    {
+        super.reverse();
+        rebuild();
+    }
+
+    @Override
+    public void pop()
+    {
+        if (isEmpty()) return;
+
+        final int i = length() - 1;
+        unindex(get(i), i);
+        super.pop();
+    }
+
+    @Override
+    public Item evaluate(Key key)
+    {
+        int index = indexOf(key);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Key> keys)
+    {
+        return evaluateEach(keys);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (isEmpty()) return null;
+
+        final int i = length() - 1;
+        unindex(get(i), i);
+        return super.acquire();
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (isEmpty()) return null;
+
+        unindex(get(0), 0);
+        Item item = super.acquireFirst();
+        shift(1, -1);
+
+        return item;
+    }
+
+    @Override
+    public int indexOf(Key key)
+    {
+        if (key == null) return -1;
+
+        Slot slot = mIndex.get(key);
+        return (slot == null) ? -1 : slot.mIndex;
+    }
+
+    @Override
+    public int[] indexOfAll(Collection<? extends Key> keys)
+    {
+        return indexOfEach(keys);
+    }
+
+    @Override
+    public int count(Key key)
+    {
+        if (key == null) return 0;
+
+        Slot slot = mIndex.get(key);
+        return (slot == null) ? 0 : slot.mCount;
+    }
+
+    @Override
+    public boolean remove(Key key)
+    {
+        return remove(indexOf(key));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (index < 0 || index >= length()) return false;
+
+        unindex(get(index), index);
+        super.remove(index);
+        shift(index + 1, -1);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        try {
+            return super.removeIf(filter);
+        } finally {
+            rebuild();
+        }
+    }
+
+    @Override
+    public Evaluator<Key, Item> clone()
+    {
+        return new HashedEvaluators<>(this);
+    }
+
+    private void index(Item item, int index)
+    {
+        Key key = item.toKey();
+        Slot slot = mIndex.get(key);
+        if (slot == null)
+        {
+            mIndex.put(key, new Slot(index));
+            return;
+        }
+
+        slot.mCount++;
+        if (index < slot.mIndex) slot.mIndex = index;
+    }
+
+    private void indexRange(int from, int to)
+    {
+        for (int i = from; i < to; i++) index(get(i), i);
+    }
+
+    /*
+     * Doit être appelée avant que l'élément ne quitte le tableau primitif : si la position retirée était la plus petite, la suivante est recherchée à partir de index + 1.
+     */
+    private void unindex(Item item, int index)
+    {
+        Key key = item.toKey();
+        Slot slot = mIndex.get(key);
+        if (slot == null) return;
+
+        if (--slot.mCount <= 0)
+        {
+            mIndex.remove(key);
+            return;
+        }
+        if (slot.mIndex != index) return;
+
+        final int length = length();
+        for (int i = index + 1; i < length; i++)
+        {
+            if (Objects.equals(key, get(i).toKey()))
+            {
+                slot.mIndex = i;
+                return;
+            }
+        }
+    }
+
+    private void shift(int from, int delta)
+    {
+        if (from > length()) return;
+
+        for (Slot slot : mIndex.values()) if (slot.mIndex >= from) slot.mIndex += delta;
+    }
+
+    private void rebuild()
+    {
+        mIndex.clear();
+        indexRange(0, length());
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        mIndex = new HashMap<>();
+        rebuild();
+    }
+
+    private static final class Slot
+    {
+        private int mIndex;
+        private int mCount;
+
+        private Slot(int index)
+        {
+            mIndex = index;
+            mCount = 1;
+        }
+    }
+}
@@ -1,6 +1,17 @@
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Created on : 27/03/2022
@@ -34,6 +45,18 @@ final class ImmutableEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> ex
         return (Item)mItems[index];
     }
 
+    @Override
+    public List<Item> evaluateAll(Collection<? extends Eval> evals)
+    {
+        int[] indexes = Evaluations.indexOfAll(mItems, mLength, evals.toArray());
+
+        List<Item> items = new ArrayList<>(indexes.length);
+        //noinspection unchecked
+        for (int index : indexes) items.add((index < 0) ? null : (Item)mItems[index]);
+
+        return items;
+    }
+
     @Override
     public Item get(int index)
     {
@@ -53,6 +76,40 @@ final class ImmutableEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> ex
         return null;
     }
 
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(mItems, 0, mLength, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, mLength);
+        System.arraycopy(mItems, 0, items, 0, mLength);
+
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        //noinspection unchecked
+        if (items.length < mLength) items = (Item[])Array.newInstance(items.getClass().getComponentType(), mLength);
+
+        System.arraycopy(mItems, 0, items, 0, mLength);
+        if (items.length > mLength) items[mLength] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return Arrays.copyOf(mItems, mLength, Object[].class);
+    }
+
     @Override
     public int length()
     {
@@ -65,6 +122,24 @@ final class ImmutableEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> ex
         return evaluateOf(eval);
     }
 
+    @Override
+    public int[] indexOfAll(Collection<? extends Eval> evals)
+    {
+        return Evaluations.indexOfAll(mItems, mLength, evals.toArray());
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        return Evaluations.matches(mItems, mLength, eval);
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        return Evaluations.count(mItems, mLength, eval);
+    }
+
     @Override
     public boolean isEmpty()
     {
@@ -132,6 +207,29 @@ final class ImmutableEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> ex
         return new ImmutableEvaluators<>((Item[])mItems);
     }
 
+    /*
+     * Copie directe du tableau primitif dans un Evaluators (Evaluators.pushAll et constructeur), sans passer par toArray().
+     */
+    void copyInto(Evaluators<?, ?> target, int index)
+    {
+        target.insert(mItems, mLength, index);
+    }
+
+    /*
+     * Forme sérialisée compacte : l'instance est remplacée par un Proxy qui n'écrit que les éléments vivants et recrée l'instance par son constructeur.
+     */
+    @Serial
+    private Object writeReplace()
+    {
+        return new Proxy(mItems, mLength);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException
+    {
+        throw new InvalidObjectException("Proxy required");
+    }
+
     private int evaluateOf(Eval eval)
     {
         if (eval == null) return -1;
@@ -173,4 +271,55 @@ final class ImmutableEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> ex
         } while (middleLeft >= left && middleRight <= right);
         return -1;
     }
+
+    private static final class Proxy implements Serializable
+    {
+        @Serial
+        private static final long serialVersionUID = -4480371956512817394L;
+
+        private transient Object[] mItems;
+        private transient int mLength;
+
+        Proxy(Object[] items, int length)
+        {
+            mItems = items;
+            mLength = length;
+        }
+
+        @Serial
+        private void writeObject(ObjectOutputStream out) throws IOException
+        {
+            out.defaultWriteObject();
+            out.writeInt(mLength);
+            for (int i = 0; i < mLength; i++) out.writeObject(mItems[i]);
+        }
+
+        @Serial
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+        {
+            in.defaultReadObject();
+
+            int length = in.readInt();
+            if (length < 0) throw new InvalidObjectException("Illegal length " + length);
+
+            Evaluable<?>[] items = new Evaluable<?>[length];
+            for (int i = 0; i < length; i++)
+            {
+                Object item = in.readObject();
+                if (item != null && !(item instanceof Evaluable)) throw new InvalidObjectException("Illegal item at index " + i);
+
+                items[i] = (Evaluable<?>)item;
+            }
+
+            mItems = items;
+            mLength = length;
+        }
+
+        @Serial
+        private Object readResolve()
+        {
+            //noinspection unchecked,rawtypes
+            return new ImmutableEvaluators((Evaluable[])mItems);
+        }
+    }
 }
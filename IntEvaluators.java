@@ -0,0 +1,171 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class IntEvaluators<Item extends Evaluator.IntEvaluable> extends AbstractColumnEvaluators<Integer, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 3362185370946619082L;
+    private static final int[] EMPTY_KEYS = {};
+
+    /*
+     * Colonne des clés primitives : mKeys[i] == get(i).toIntKey(). Les recherches parcourent ce tableau dense sans déréférencer les éléments ni allouer,
+     * par comparaisons vectorielles lorsque le module jdk.incubator.vector est présent (voir KeyScans).
+     */
+    private transient int[] mKeys;
+
+    public IntEvaluators()
+    {
+        super();
+        mKeys = EMPTY_KEYS;
+    }
+
+    public IntEvaluators(Collection<? extends Item> collection)
+    {
+        super(collection);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public IntEvaluators(Evaluator<? extends Integer, ? extends Item> evaluator)
+    {
+        super(evaluator);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public IntEvaluators(Item[] array)
+    {
+        super(array);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public IntEvaluators(int initialCapacity)
+    {
+        super(initialCapacity);
+        mKeys = (initialCapacity > 0) ? new int[initialCapacity] : EMPTY_KEYS;
+    }
+
+    public Item evaluate(int key)
+    {
+        int index = indexOf(key);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    public int indexOf(int key)
+    {
+        return KeyScans.indexOf(mKeys, length(), key);
+    }
+
+    /**
+     * Retourne le premier élément dont la clé est comprise entre from (inclus) et to (exclu), null si aucun.
+     */
+    public Item evaluateRange(int from, int to)
+    {
+        int index = indexOfRange(from, to);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    public int indexOfRange(int from, int to)
+    {
+        return KeyScans.indexOfRange(mKeys, length(), from, to);
+    }
+
+    public int count(int key)
+    {
+        return KeyScans.count(mKeys, length(), key);
+    }
+
+    public int countRange(int from, int to)
+    {
+        return KeyScans.countRange(mKeys, length(), from, to);
+    }
+
+    @Override
+    public int indexOf(Integer key)
+    {
+        if (key == null) return -1;
+
+        return indexOf(key.intValue());
+    }
+
+    @Override
+    public int count(Integer key)
+    {
+        if (key == null) return 0;
+
+        return count(key.intValue());
+    }
+
+    @Override
+    public Evaluator<Integer, Item> clone()
+    {
+        return new IntEvaluators<>(this);
+    }
+
+    @Override
+    protected void columnInsert(int index, int count)
+    {
+        final int length = length();
+        if (length > mKeys.length) mKeys = Arrays.copyOf(mKeys, Math.max(length, mKeys.length + (mKeys.length >> 1)));
+
+        System.arraycopy(mKeys, index, mKeys, index + count, length - count - index);
+        for (int i = index; i < index + count; i++) mKeys[i] = get(i).toIntKey();
+    }
+
+    @Override
+    protected void columnRemove(int index)
+    {
+        System.arraycopy(mKeys, index + 1, mKeys, index, length() - index);
+    }
+
+    @Override
+    protected void columnSet(int index)
+    {
+        mKeys[index] = get(index).toIntKey();
+    }
+
+    @Override
+    protected void columnReverse()
+    {
+        int left = 0;
+        int right = length() - 1;
+        while (left < right) {
+            int key = mKeys[left];
+            mKeys[left++] = mKeys[right];
+            mKeys[right--] = key;
+        }
+    }
+
+    @Override
+    protected void columnClear() {}
+
+    @Override
+    protected void columnTrim()
+    {
+        final int length = length();
+        if (length < mKeys.length) mKeys = (length == 0) ? EMPTY_KEYS : Arrays.copyOf(mKeys, length);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+}
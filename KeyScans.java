@@ -0,0 +1,126 @@
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+final class KeyScans
+{
+    /*
+     * Parcours des colonnes de clés primitives de IntEvaluators et LongEvaluators.
+     * Lorsque le module jdk.incubator.vector est présent (--add-modules jdk.incubator.vector) et que VectorKeyScans (sources incubator/) a été compilée,
+     * les comparaisons sont faites plusieurs clés à la fois, sinon par une simple boucle.
+     * VectorKeyScans est chargée par réflexion : les sources par défaut ne dépendent pas du module incubateur et se compilent sans option ni avertissement.
+     */
+    private static final Vectorized VECTOR = vector();
+    private static final int MIN_VECTOR_LENGTH = 32;
+
+    private KeyScans() {}
+
+    interface Vectorized
+    {
+        boolean isSupported();
+
+        int indexOf(int[] keys, int length, int key);
+
+        int indexOf(long[] keys, int length, long key);
+
+        int indexOfRange(int[] keys, int length, int from, int to);
+
+        int indexOfRange(long[] keys, int length, long from, long to);
+
+        int count(int[] keys, int length, int key);
+
+        int count(long[] keys, int length, long key);
+
+        int countRange(int[] keys, int length, int from, int to);
+
+        int countRange(long[] keys, int length, long from, long to);
+    }
+
+    static int indexOf(int[] keys, int length, int key)
+    {
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.indexOf(keys, length, key);
+
+        for (int i = 0; i < length; i++) if (keys[i] == key) return i;
+        return -1;
+    }
+
+    static int indexOf(long[] keys, int length, long key)
+    {
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.indexOf(keys, length, key);
+
+        for (int i = 0; i < length; i++) if (keys[i] == key) return i;
+        return -1;
+    }
+
+    /**
+     * Position de la première clé comprise entre from (inclus) et to (exclu).
+     */
+    static int indexOfRange(int[] keys, int length, int from, int to)
+    {
+        if (from >= to) return -1;
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.indexOfRange(keys, length, from, to);
+
+        for (int i = 0; i < length; i++) if (keys[i] >= from && keys[i] < to) return i;
+        return -1;
+    }
+
+    static int indexOfRange(long[] keys, int length, long from, long to)
+    {
+        if (from >= to) return -1;
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.indexOfRange(keys, length, from, to);
+
+        for (int i = 0; i < length; i++) if (keys[i] >= from && keys[i] < to) return i;
+        return -1;
+    }
+
+    static int count(int[] keys, int length, int key)
+    {
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.count(keys, length, key);
+
+        int count = 0;
+        for (int i = 0; i < length; i++) if (keys[i] == key) count++;
+        return count;
+    }
+
+    static int count(long[] keys, int length, long key)
+    {
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.count(keys, length, key);
+
+        int count = 0;
+        for (int i = 0; i < length; i++) if (keys[i] == key) count++;
+        return count;
+    }
+
+    static int countRange(int[] keys, int length, int from, int to)
+    {
+        if (from >= to) return 0;
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.countRange(keys, length, from, to);
+
+        int count = 0;
+        for (int i = 0; i < length; i++) if (keys[i] >= from && keys[i] < to) count++;
+        return count;
+    }
+
+    static int countRange(long[] keys, int length, long from, long to)
+    {
+        if (from >= to) return 0;
+        if (VECTOR != null && length >= MIN_VECTOR_LENGTH) return VECTOR.countRange(keys, length, from, to);
+
+        int count = 0;
+        for (int i = 0; i < length; i++) if (keys[i] >= from && keys[i] < to) count++;
+        return count;
+    }
+
+    private static Vectorized vector()
+    {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+
+        try {
+            Vectorized vector = (Vectorized)Class.forName("VectorKeyScans").getDeclaredConstructor().newInstance();
+            return vector.isSupported() ? vector : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class LongEvaluators<Item extends Evaluator.LongEvaluable> extends AbstractColumnEvaluators<Long, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = -7219963055410283546L;
+    private static final long[] EMPTY_KEYS = {};
+
+    /*
+     * Colonne des clés primitives : mKeys[i] == get(i).toLongKey(). Les recherches parcourent ce tableau dense sans déréférencer les éléments ni allouer,
+     * par comparaisons vectorielles lorsque le module jdk.incubator.vector est présent (voir KeyScans).
+     */
+    private transient long[] mKeys;
+
+    public LongEvaluators()
+    {
+        super();
+        mKeys = EMPTY_KEYS;
+    }
+
+    public LongEvaluators(Collection<? extends Item> collection)
+    {
+        super(collection);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public LongEvaluators(Evaluator<? extends Long, ? extends Item> evaluator)
+    {
+        super(evaluator);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public LongEvaluators(Item[] array)
+    {
+        super(array);
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+
+    public LongEvaluators(int initialCapacity)
+    {
+        super(initialCapacity);
+        mKeys = (initialCapacity > 0) ? new long[initialCapacity] : EMPTY_KEYS;
+    }
+
+    public Item evaluate(long key)
+    {
+        int index = indexOf(key);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    public int indexOf(long key)
+    {
+        return KeyScans.indexOf(mKeys, length(), key);
+    }
+
+    /**
+     * Retourne le premier élément dont la clé est comprise entre from (inclus) et to (exclu), null si aucun.
+     */
+    public Item evaluateRange(long from, long to)
+    {
+        int index = indexOfRange(from, to);
+        if (index < 0) return null;
+
+        return get(index);
+    }
+
+    public int indexOfRange(long from, long to)
+    {
+        return KeyScans.indexOfRange(mKeys, length(), from, to);
+    }
+
+    public int count(long key)
+    {
+        return KeyScans.count(mKeys, length(), key);
+    }
+
+    public int countRange(long from, long to)
+    {
+        return KeyScans.countRange(mKeys, length(), from, to);
+    }
+
+    @Override
+    public int indexOf(Long key)
+    {
+        if (key == null) return -1;
+
+        return indexOf(key.longValue());
+    }
+
+    @Override
+    public int count(Long key)
+    {
+        if (key == null) return 0;
+
+        return count(key.longValue());
+    }
+
+    @Override
+    public Evaluator<Long, Item> clone()
+    {
+        return new LongEvaluators<>(this);
+    }
+
+    @Override
+    protected void columnInsert(int index, int count)
+    {
+        final int length = length();
+        if (length > mKeys.length) mKeys = Arrays.copyOf(mKeys, Math.max(length, mKeys.length + (mKeys.length >> 1)));
+
+        System.arraycopy(mKeys, index, mKeys, index + count, length - count - index);
+        for (int i = index; i < index + count; i++) mKeys[i] = get(i).toLongKey();
+    }
+
+    @Override
+    protected void columnRemove(int index)
+    {
+        System.arraycopy(mKeys, index + 1, mKeys, index, length() - index);
+    }
+
+    @Override
+    protected void columnSet(int index)
+    {
+        mKeys[index] = get(index).toLongKey();
+    }
+
+    @Override
+    protected void columnReverse()
+    {
+        int left = 0;
+        int right = length() - 1;
+        while (left < right) {
+            long key = mKeys[left];
+            mKeys[left++] = mKeys[right];
+            mKeys[right--] = key;
+        }
+    }
+
+    @Override
+    protected void columnClear() {}
+
+    @Override
+    protected void columnTrim()
+    {
+        final int length = length();
+        if (length < mKeys.length) mKeys = (length == 0) ? EMPTY_KEYS : Arrays.copyOf(mKeys, length);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+
+        mKeys = EMPTY_KEYS;
+        rebuild();
+    }
+}
@@ -0,0 +1,198 @@
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+final class MappedEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item>
+{
+    @Serial
+    private static final long serialVersionUID = -2671508820154372969L;
+    private static final VarHandle DECODED = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /*
+     * Vue immuable d'un instantané projeté en mémoire (voir Snapshots) : aucun élément n'est décodé à l'ouverture.
+     * Chaque élément est décodé à sa première lecture directement depuis la projection, puis conservé dans mDecoded.
+     * La publication se fait par VarHandle (setRelease / getAcquire) : l'instance peut être partagée entre plusieurs threads, au pire un élément est décodé deux fois.
+     */
+    private final transient ByteBuffer mBuffer;
+    private final transient Evaluator.Codec<? extends Item> mCodec;
+    private final transient Object[] mDecoded;
+    private final int mLength;
+    private final int mDataStart;
+
+    MappedEvaluators(ByteBuffer buffer, int length, Evaluator.Codec<? extends Item> codec)
+    {
+        mBuffer = buffer;
+        mCodec = codec;
+        mDecoded = new Object[length];
+        mLength = length;
+        mDataStart = Snapshots.HEADER_BYTES + 4 * (length + 1);
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = evaluateOf(eval);
+        if (index < 0) return null;
+
+        return item(index);
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+mLength);
+
+        return item(index);
+    }
+
+    @Override
+    public Item peek()
+    {
+        if (mLength > 0) return item(mLength - 1);
+
+        return null;
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, mLength);
+        for (int i = 0; i < mLength; i++) items[i] = item(i);
+
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        //noinspection unchecked
+        if (items.length < mLength) items = (Item[])Array.newInstance(items.getClass().getComponentType(), mLength);
+
+        for (int i = 0; i < mLength; i++) items[i] = item(i);
+        if (items.length > mLength) items[mLength] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] items = new Object[mLength];
+        for (int i = 0; i < mLength; i++) items[i] = item(i);
+
+        return items;
+    }
+
+    @Override
+    public int length()
+    {
+        return mLength;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return evaluateOf(eval);
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        BitSet matches = new BitSet();
+        if (eval == null) return matches;
+
+        for (int i = 0; i < mLength; i++) if (item(i).toEvaluate(eval)) matches.set(i);
+
+        return matches;
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        if (eval == null) return 0;
+
+        int count = 0;
+        for (int i = 0; i < mLength; i++) if (item(i).toEvaluate(eval)) count++;
+
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mLength <= 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (mLength <= 0) return "[]";
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+        for (int i = 0; i < mLength; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append(item(i));
+        }
+        return builder.append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof MappedEvaluators)) return false;
+
+        return Arrays.equals(toArray(), ((MappedEvaluators<?, ?>)object).toArray());
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new MappedEvaluators<>(mBuffer, mLength, mCodec);
+    }
+
+    private int evaluateOf(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        for (int i = 0; i < mLength; i++) if (item(i).toEvaluate(eval)) return i;
+
+        return -1;
+    }
+
+    private Item item(int index)
+    {
+        Object item = DECODED.getAcquire(mDecoded, index);
+        if (item == null)
+        {
+            int start = mBuffer.getInt(Snapshots.HEADER_BYTES + 4 * index);
+            int end = mBuffer.getInt(Snapshots.HEADER_BYTES + 4 * (index + 1));
+
+            item = mCodec.decode(mBuffer.slice(mDataStart + start, end - start));
+            DECODED.setRelease(mDecoded, index, item);
+        }
+        //noinspection unchecked
+        return (Item)item;
+    }
+
+    /*
+     * La projection n'est pas sérialisable : l'instance est remplacée par une copie immuable entièrement décodée, elle-même écrite sous sa forme compacte.
+     */
+    @Serial
+    private Object writeReplace()
+    {
+        //noinspection unchecked
+        return new ImmutableEvaluators<>(toArray((Item[])new Evaluator.Evaluable<?>[mLength]));
+    }
+}
@@ -0,0 +1,147 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+final class Snapshots
+{
+    /*
+     * Format d'un instantané (entiers big-endian) :
+     *   MAGIC, VERSION, length             en-tête de HEADER_BYTES octets
+     *   offsets[0..length]                 position de chaque élément dans la zone de données, offsets[length] est sa taille totale
+     *   données                            éléments encodés par le Codec, les uns à la suite des autres
+     * Le fichier est projeté en mémoire d'un seul tenant, sa taille est donc limitée à Integer.MAX_VALUE octets.
+     */
+    static final int MAGIC = 0x45564C53;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 12;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private Snapshots() {}
+
+    /**
+     * Écrit l'instantané dans un fichier temporaire puis le renomme atomiquement : un instantané existant n'est jamais laissé à moitié écrit.
+     */
+    static <Item> void save(Object[] items, int length, Path path, Evaluator.Codec<? super Item> codec) throws IOException
+    {
+        final long dataStart = HEADER_BYTES + 4L * (length + 1);
+        if (dataStart > Integer.MAX_VALUE) throw new IOException("Snapshot too large: " + length + " items");
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer header = ByteBuffer.allocate((int)dataStart);
+        header.putInt(MAGIC).putInt(VERSION).putInt(length).putInt(0);
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(dataStart);
+
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            for (int i = 0; i < length; i++)
+            {
+                //noinspection unchecked
+                codec.encode((Item)items[i], output);
+
+                int size = output.size();
+                if (size == Integer.MAX_VALUE || dataStart + size > Integer.MAX_VALUE) throw new IOException("Snapshot too large: " + path);
+
+                header.putInt(size);
+            }
+            output.flush();
+
+            header.flip();
+            long position = 0L;
+            while (header.hasRemaining()) position += channel.write(header, position);
+
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static <Eval, Item extends Evaluator.Evaluable<Eval>> MappedEvaluators<Eval, Item> load(Path path, Evaluator.Codec<? extends Item> codec) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) throw new IOException("Invalid snapshot size " + size + ": " + path);
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            if (buffer.getInt(0) != MAGIC) throw new IOException("Not a snapshot: " + path);
+            if (buffer.getInt(4) != VERSION) throw new IOException("Unsupported snapshot version " + buffer.getInt(4) + ": " + path);
+
+            int length = buffer.getInt(8);
+            long dataStart = HEADER_BYTES + 4L * (length + 1);
+            if (length < 0 || dataStart > size || dataStart + buffer.getInt(HEADER_BYTES + 4 * length) != size) throw new IOException("Corrupted snapshot: " + path);
+
+            return new MappedEvaluators<>(buffer, length, codec);
+        }
+    }
+
+    /**
+     * Forme sérialisée par codec (Evaluators.writeObject) : les positions des éléments nuls, la position de fin de chaque élément, puis les éléments encodés en un seul bloc.
+     * pushAll accepte les éléments nuls : ils ne sont pas transmis au codec et n'occupent aucun octet.
+     */
+    static <Item> void write(ObjectOutputStream out, Object[] items, int length, Evaluator.Codec<? super Item> codec) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+
+        BitSet nulls = new BitSet();
+        int[] offsets = new int[length];
+        for (int i = 0; i < length; i++)
+        {
+            //noinspection unchecked
+            if (items[i] == null) nulls.set(i);
+            else codec.encode((Item)items[i], data);
+
+            offsets[i] = data.size();
+        }
+        data.flush();
+
+        out.writeObject(nulls);
+        for (int offset : offsets) out.writeInt(offset);
+        bytes.writeTo(out);
+    }
+
+    static Object[] read(ObjectInputStream in, int length, Evaluator.Codec<?> codec) throws IOException, ClassNotFoundException
+    {
+        if (!(in.readObject() instanceof BitSet nulls)) throw new InvalidObjectException("Missing null positions");
+
+        int[] offsets = new int[length + 1];
+        for (int i = 1; i <= length; i++)
+        {
+            if ((offsets[i] = in.readInt()) < offsets[i - 1]) throw new InvalidObjectException("Corrupted offset at index " + i);
+        }
+
+        byte[] bytes = new byte[offsets[length]];
+        in.readFully(bytes);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Object[] items = new Object[length];
+        for (int i = 0; i < length; i++)
+        {
+            if (nulls.get(i)) continue;
+            if ((items[i] = codec.decode(buffer.slice(offsets[i], offsets[i + 1] - offsets[i]))) == null) throw new InvalidObjectException("Null item at index " + i);
+        }
+        return items;
+    }
+}
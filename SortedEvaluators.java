@@ -0,0 +1,452 @@
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class SortedEvaluators<Eval, Item extends Evaluator.KeyedEvaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements Serializable
+{
+    @Serial
+    private static final long serialVersionUID = 4417986402281537750L;
+    private static final Object[] EMPTY_ITEMS = {};
+
+    private final Comparator<? super Eval> mComparator;
+
+    private Object[] mItems;
+    private int mLength;
+
+    public SortedEvaluators(Comparator<? super Eval> comparator)
+    {
+        if (comparator == null) throw new IllegalArgumentException("Comparator must not be null");
+
+        mComparator = comparator;
+        mItems = EMPTY_ITEMS;
+    }
+
+    public SortedEvaluators(Collection<? extends Item> collection, Comparator<? super Eval> comparator)
+    {
+        this(comparator);
+        pushAll(collection);
+    }
+
+    public SortedEvaluators(Evaluator<? extends Eval, ? extends Item> evaluator, Comparator<? super Eval> comparator)
+    {
+        this(comparator);
+        pushAll(evaluator);
+    }
+
+    public SortedEvaluators(int initialCapacity, Comparator<? super Eval> comparator)
+    {
+        if (comparator == null) throw new IllegalArgumentException("Comparator must not be null");
+
+        mComparator = comparator;
+        if (initialCapacity > 0) mItems = new Object[initialCapacity];
+        else if (initialCapacity == 0) mItems = EMPTY_ITEMS;
+        else throw new IllegalArgumentException("Illegal initial capacity " + initialCapacity);
+    }
+
+    private SortedEvaluators(Object[] items, int length, Comparator<? super Eval> comparator)
+    {
+        mComparator = comparator;
+        mItems = items;
+        mLength = length;
+    }
+
+    public Comparator<? super Eval> comparator()
+    {
+        return mComparator;
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        /*
+         * Les éléments de même clé conservent leur ordre d'insertion : le nouvel élément est placé après le dernier élément de clé égale.
+         */
+        int index = upperBound(item.toKey());
+
+        mItems = Items.ensureCapacity(mItems, mLength + 1);
+
+        System.arraycopy(mItems, index, mItems, index + 1, mLength - index);
+
+        mItems[index] = item;
+        mLength++;
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        throw new UnsupportedOperationException("Positional insertion is not supported by a sorted evaluator");
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (indexOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+        if (item == null) return;
+
+        remove(index);
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, indexOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        merge(collection.toArray());
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        throw new UnsupportedOperationException("Positional insertion is not supported by a sorted evaluator");
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        merge(evaluator.toArray());
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        throw new UnsupportedOperationException("Positional insertion is not supported by a sorted evaluator");
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(mItems, 0, mLength, null);
+        mLength = 0;
+    }
+
+    @Override
+    public void trim()
+    {
+        if (mLength < mItems.length) mItems = (mLength == 0) ? EMPTY_ITEMS : Arrays.copyOf(mItems, mLength);
+    }
+
+    @Override
+    public void reverse()
+    {
+        throw new UnsupportedOperationException("Reversing is not supported by a sorted evaluator");
+    }
+
+    @Override
+    public void pop()
+    {
+        if (mLength > 0) mItems[--mLength] = null;
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = indexOf(eval);
+        if (index < 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[index];
+    }
+
+    /**
+     * Retourne les éléments dont la clé est comprise dans l'intervalle [from, to[, dans l'ordre du comparateur.
+     */
+    public SortedEvaluators<Eval, Item> evaluateRange(Eval from, Eval to)
+    {
+        int start = lowerBound(from);
+        int end = Math.max(start, lowerBound(to));
+        int length = end - start;
+
+        return new SortedEvaluators<>((length == 0) ? EMPTY_ITEMS : Arrays.copyOfRange(mItems, start, end), length, mComparator);
+    }
+
+    /**
+     * Retourne l'élément de plus grande clé inférieure ou égale à eval, ou null.
+     */
+    public Item floor(Eval eval)
+    {
+        int index = upperBound(eval) - 1;
+        if (index < 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[index];
+    }
+
+    /**
+     * Retourne l'élément de plus petite clé supérieure ou égale à eval, ou null.
+     */
+    public Item ceiling(Eval eval)
+    {
+        int index = lowerBound(eval);
+        if (index >= mLength) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[index];
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+mLength);
+        //noinspection unchecked
+        return (Item)mItems[index];
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, mLength);
+
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(mItems, 0, items, 0, mLength);
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        if (items.length < mLength) //noinspection unchecked
+            return (Item[])Arrays.copyOf(mItems, mLength, items.getClass());
+
+        System.arraycopy(mItems, 0, items, 0, mLength);
+        if (items.length > mLength) items[mLength] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return Arrays.copyOf(mItems, mLength);
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (mLength <= 0) return null;
+
+        //noinspection unchecked
+        Item item = (Item)mItems[--mLength];
+        mItems[mLength] = null;
+
+        return item;
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (mLength <= 0) return null;
+
+        //noinspection unchecked
+        final Item item = (Item)mItems[0];
+        System.arraycopy(mItems, 1, mItems, 0, mLength - 1);
+
+        mItems[--mLength] = null;
+        return item;
+    }
+
+    @Override
+    public Item peek()
+    {
+        if (mLength <= 0) return null;
+
+        //noinspection unchecked
+        return (Item)mItems[mLength - 1];
+    }
+
+    @Override
+    public Spliterator<Item> spliterator()
+    {
+        return Spliterators.spliterator(mItems, 0, mLength, Spliterator.ORDERED);
+    }
+
+    @Override
+    public int length()
+    {
+        return mLength;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        int index = lowerBound(eval);
+        if (index < mLength && mComparator.compare(keyAt(index), eval) == 0) return index;
+
+        return -1;
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        BitSet matches = new BitSet();
+        if (eval == null) return matches;
+
+        matches.set(lowerBound(eval), upperBound(eval));
+        return matches;
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        if (eval == null) return 0;
+
+        return upperBound(eval) - lowerBound(eval);
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(indexOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (index < 0 || index >= mLength) return false;
+
+        int pos = mLength - index - 1;
+        if (pos > 0) System.arraycopy(mItems, index + 1, mItems, index, pos);
+
+        mItems[--mLength] = null;
+        return true;
+    }
+
+    /**
+     * L'ordre des éléments conservés, donc le tri, est préservé.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Item> filter)
+    {
+        final int length = mLength;
+        mLength = Evaluations.removeIf(mItems, 0, length, filter);
+
+        return mLength != length;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mLength <= 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (mLength <= 0) return "[]";
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+        for (int i = 0; i < mLength; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append(mItems[i]);
+        }
+        return builder.append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof SortedEvaluators)) return false;
+
+        SortedEvaluators<?, ?> that = (SortedEvaluators<?, ?>)object;
+        return Arrays.equals(mItems, 0, mLength, that.mItems, 0, that.mLength);
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        return new SortedEvaluators<>((mLength == 0) ? EMPTY_ITEMS : Arrays.copyOf(mItems, mLength), mLength, mComparator);
+    }
+
+    /*
+     * Fusionne les éléments envoyés en paramètre avec le tableau primitif déjà trié : les nouveaux éléments sont triés entre eux puis fusionnés depuis la fin, sans tableau intermédiaire.
+     */
+    private void merge(Object[] items)
+    {
+        int length = 0;
+        for (Object item : items) if (item != null) items[length++] = item;
+        if (length == 0) return;
+
+        //noinspection unchecked
+        Arrays.sort(items, 0, length, (left, right) -> mComparator.compare(((Item)left).toKey(), ((Item)right).toKey()));
+
+        mItems = Items.ensureCapacity(mItems, mLength + length);
+
+        int i = mLength - 1;
+        int j = length - 1;
+        int k = mLength + length - 1;
+        while (j >= 0) {
+            //noinspection unchecked
+            if (i >= 0 && mComparator.compare(keyAt(i), ((Item)items[j]).toKey()) > 0) mItems[k--] = mItems[i--];
+            else mItems[k--] = items[j--];
+        }
+        mLength += length;
+    }
+
+    private Eval keyAt(int index)
+    {
+        //noinspection unchecked
+        return ((Item)mItems[index]).toKey();
+    }
+
+    /*
+     * Première position dont la clé est supérieure ou égale à eval.
+     */
+    private int lowerBound(Eval eval)
+    {
+        int low = 0;
+        int high = mLength;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (mComparator.compare(keyAt(middle), eval) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /*
+     * Première position dont la clé est strictement supérieure à eval.
+     */
+    private int upperBound(Eval eval)
+    {
+        int low = 0;
+        int high = mLength;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (mComparator.compare(keyAt(middle), eval) <= 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
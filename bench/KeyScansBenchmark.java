@@ -0,0 +1,84 @@
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public final class KeyScansBenchmark
+{
+    /*
+     * Mesure simple (sans JMH) du parcours complet d'une recherche infructueuse : boucle evaluateOf de Evaluators contre la colonne de clés de IntEvaluators.
+     * Sans vecteurs : javac -d out *.java bench/KeyScansBenchmark.java && java -cp out KeyScansBenchmark
+     * Avec vecteurs : javac --add-modules jdk.incubator.vector -d out *.java incubator/*.java bench/KeyScansBenchmark.java
+     *                 && java --add-modules jdk.incubator.vector -cp out KeyScansBenchmark
+     */
+    private static final int[] LENGTHS = {64, 1024, 65536};
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long MEASURE_NANOS = 2_000_000_000L;
+
+    private static volatile long sSink;
+
+    private record Key(int key) implements Evaluator.IntEvaluable
+    {
+        @Override
+        public int toIntKey()
+        {
+            return key;
+        }
+    }
+
+    private KeyScansBenchmark() {}
+
+    public static void main(String[] args)
+    {
+        System.out.println("jdk.incubator.vector: " + ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        System.out.printf("%8s %18s %18s %18s%n", "length", "evaluateOf ns/op", "indexOf ns/op", "count ns/op");
+
+        for (int length : LENGTHS)
+        {
+            Evaluators<Integer, Key> evaluators = new Evaluators<>(length);
+            IntEvaluators<Key> ints = new IntEvaluators<>(length);
+            for (int i = 0; i < length; i++)
+            {
+                evaluators.push(new Key(i));
+                ints.push(new Key(i));
+            }
+
+            /*
+             * La clé recherchée est absente : chaque opération parcourt toutes les clés.
+             */
+            final Integer missing = -1;
+            double evaluateOf = measure(() -> evaluators.indexOf(missing));
+            double indexOf = measure(() -> ints.indexOf(-1));
+            double count = measure(() -> ints.count(-1));
+
+            System.out.printf("%8d %18.1f %18.1f %18.1f%n", length, evaluateOf, indexOf, count);
+        }
+    }
+
+    private static double measure(Operation operation)
+    {
+        run(operation, WARMUP_NANOS);
+        return run(operation, MEASURE_NANOS);
+    }
+
+    private static double run(Operation operation, long duration)
+    {
+        long sink = 0L;
+        long operations = 0L;
+
+        final long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 1024; i++) sink += operation.run();
+            operations += 1024;
+        } while ((elapsed = System.nanoTime() - start) < duration);
+
+        sSink = sink;
+        return (double)elapsed / operations;
+    }
+
+    private interface Operation
+    {
+        int run();
+    }
+}
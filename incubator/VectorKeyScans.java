@@ -0,0 +1,144 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+final class VectorKeyScans implements KeyScans.Vectorized
+{
+    /*
+     * Comparaisons vectorielles : chaque itération compare SPECIES.length() clés (4 à 16 selon le jeu d'instructions disponible), la fin du tableau est traitée clé par clé.
+     * Instanciée par réflexion par KeyScans, après avoir vérifié la présence du module jdk.incubator.vector : compiler avec --add-modules jdk.incubator.vector.
+     */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isSupported()
+    {
+        return INTS.length() > 1 && LONGS.length() > 1;
+    }
+
+    @Override
+    public int indexOf(int[] keys, int length, int key)
+    {
+        int i = 0;
+        final int bound = INTS.loopBound(length);
+        for (; i < bound; i += INTS.length())
+        {
+            VectorMask<Integer> mask = IntVector.fromArray(INTS, keys, i).eq(key);
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < length; i++) if (keys[i] == key) return i;
+
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] keys, int length, long key)
+    {
+        int i = 0;
+        final int bound = LONGS.loopBound(length);
+        for (; i < bound; i += LONGS.length())
+        {
+            VectorMask<Long> mask = LongVector.fromArray(LONGS, keys, i).eq(key);
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < length; i++) if (keys[i] == key) return i;
+
+        return -1;
+    }
+
+    @Override
+    public int indexOfRange(int[] keys, int length, int from, int to)
+    {
+        int i = 0;
+        final int bound = INTS.loopBound(length);
+        for (; i < bound; i += INTS.length())
+        {
+            IntVector vector = IntVector.fromArray(INTS, keys, i);
+            VectorMask<Integer> mask = vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to));
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < length; i++) if (keys[i] >= from && keys[i] < to) return i;
+
+        return -1;
+    }
+
+    @Override
+    public int indexOfRange(long[] keys, int length, long from, long to)
+    {
+        int i = 0;
+        final int bound = LONGS.loopBound(length);
+        for (; i < bound; i += LONGS.length())
+        {
+            LongVector vector = LongVector.fromArray(LONGS, keys, i);
+            VectorMask<Long> mask = vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to));
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+        for (; i < length; i++) if (keys[i] >= from && keys[i] < to) return i;
+
+        return -1;
+    }
+
+    @Override
+    public int count(int[] keys, int length, int key)
+    {
+        int i = 0;
+        int count = 0;
+        final int bound = INTS.loopBound(length);
+        for (; i < bound; i += INTS.length()) count += IntVector.fromArray(INTS, keys, i).eq(key).trueCount();
+        for (; i < length; i++) if (keys[i] == key) count++;
+
+        return count;
+    }
+
+    @Override
+    public int count(long[] keys, int length, long key)
+    {
+        int i = 0;
+        int count = 0;
+        final int bound = LONGS.loopBound(length);
+        for (; i < bound; i += LONGS.length()) count += LongVector.fromArray(LONGS, keys, i).eq(key).trueCount();
+        for (; i < length; i++) if (keys[i] == key) count++;
+
+        return count;
+    }
+
+    @Override
+    public int countRange(int[] keys, int length, int from, int to)
+    {
+        int i = 0;
+        int count = 0;
+        final int bound = INTS.loopBound(length);
+        for (; i < bound; i += INTS.length())
+        {
+            IntVector vector = IntVector.fromArray(INTS, keys, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to)).trueCount();
+        }
+        for (; i < length; i++) if (keys[i] >= from && keys[i] < to) count++;
+
+        return count;
+    }
+
+    @Override
+    public int countRange(long[] keys, int length, long from, long to)
+    {
+        int i = 0;
+        int count = 0;
+        final int bound = LONGS.loopBound(length);
+        for (; i < bound; i += LONGS.length())
+        {
+            LongVector vector = LongVector.fromArray(LONGS, keys, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to)).trueCount();
+        }
+        for (; i < length; i++) if (keys[i] >= from && keys[i] < to) count++;
+
+        return count;
+    }
+}
@@ -0,0 +1,463 @@
+import java.io.Serial;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.reflect.Array;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Created on : 18/10/2026
+ * Author     : Yoann Meclot (DevMyBits)
+ * Email      : devmybits@gmail.com
+ */
+public class OffHeapEvaluators<Eval, Item extends Evaluator.Evaluable<Eval>> extends AbstractEvaluators<Eval, Item> implements AutoCloseable
+{
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Traduit un élément en enregistrement de taille fixe décrit par le MemoryLayout de l'instance, et inversement.
+     * Les trois méthodes reçoivent le segment complet et la position en octets du début de l'enregistrement, pour être utilisées avec les VarHandle du layout
+     * (layout.varHandle(PathElement.groupElement("id")).get(segment, offset)) sans créer de sous-segment.
+     */
+    public interface RecordCodec<Eval, Item>
+    {
+        void encode(Item item, MemorySegment segment, long offset);
+
+        Item decode(MemorySegment segment, long offset);
+
+        boolean toEvaluate(MemorySegment segment, long offset, Eval eval);
+    }
+
+    /*
+     * Les éléments sont stockés hors du tas, enregistrement par enregistrement, dans un MemorySegment alloué par une Arena partagée.
+     * Les évaluations lisent directement les champs des enregistrements, un objet Item n'est créé qu'à la lecture (get, evaluate, acquire, toArray...).
+     * Chaque agrandissement alloue une nouvelle Arena et ferme la précédente, close() libère la mémoire : l'instance n'est plus utilisable ensuite.
+     * L'instance ne contient aucune référence vers les éléments et n'est donc pas parcourue par le ramasse-miettes.
+     */
+    private final MemoryLayout mLayout;
+    private final RecordCodec<Eval, Item> mCodec;
+    private final long mStride;
+
+    private Arena mArena;
+    private MemorySegment mSegment;
+    private int mCapacity;
+    private int mLength;
+
+    public OffHeapEvaluators(MemoryLayout layout, RecordCodec<Eval, Item> codec)
+    {
+        this(layout, codec, 0);
+    }
+
+    public OffHeapEvaluators(MemoryLayout layout, RecordCodec<Eval, Item> codec, int initialCapacity)
+    {
+        if (layout == null || layout.byteSize() <= 0) throw new IllegalArgumentException("Illegal record layout " + layout);
+        if (codec == null) throw new IllegalArgumentException("Codec must not be null");
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal initial capacity " + initialCapacity);
+
+        mLayout = layout;
+        mCodec = codec;
+        mStride = (layout.byteSize() + layout.byteAlignment() - 1) / layout.byteAlignment() * layout.byteAlignment();
+        mSegment = MemorySegment.NULL;
+
+        if (initialCapacity > 0) resize(initialCapacity);
+    }
+
+    public OffHeapEvaluators(MemoryLayout layout, RecordCodec<Eval, Item> codec, Collection<? extends Item> collection)
+    {
+        this(layout, codec, collection.size());
+        pushAll(collection);
+    }
+
+    public MemoryLayout layout()
+    {
+        return mLayout;
+    }
+
+    @Override
+    public void push(Item item)
+    {
+        if (item == null) return;
+
+        ensureCapacity(mLength + 1);
+        mCodec.encode(item, mSegment, offsetOf(mLength++));
+    }
+
+    @Override
+    public void push(Item item, int index)
+    {
+        if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+        if (item == null) return;
+
+        ensureCapacity(mLength + 1);
+        move(index, index + 1, mLength - index);
+
+        mCodec.encode(item, mSegment, offsetOf(index));
+        mLength++;
+    }
+
+    @Override
+    public void pushIfAbsent(Item item, Eval eval)
+    {
+        if (item == null) return;
+        if (evaluateOf(eval) >= 0) return;
+
+        push(item);
+    }
+
+    @Override
+    public void set(Item item, int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+        if (item == null) return;
+
+        mCodec.encode(item, mSegment, offsetOf(index));
+    }
+
+    @Override
+    public void set(Item item, Eval eval)
+    {
+        set(item, evaluateOf(eval));
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection)
+    {
+        insert(collection.toArray(), mLength);
+    }
+
+    @Override
+    public void pushAll(Collection<? extends Item> collection, int index)
+    {
+        if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+
+        insert(collection.toArray(), index);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator)
+    {
+        pushAll(evaluator, mLength);
+    }
+
+    @Override
+    public void pushAll(Evaluator<? extends Eval, ? extends Item> evaluator, int index)
+    {
+        if (index < 0 || index > mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index+" size="+mLength);
+
+        /*
+         * Même layout et même codec : les enregistrements sont copiés octet par octet, sans passer par des objets Item.
+         */
+        if (evaluator instanceof OffHeapEvaluators<?, ?> other && other.mCodec == mCodec && other.mLayout.equals(mLayout))
+        {
+            final int length = other.mLength;
+            if (length == 0) return;
+
+            ensureCapacity(mLength + length);
+            move(index, index + length, mLength - index);
+
+            MemorySegment.copy(other.mSegment, 0L, mSegment, offsetOf(index), length * mStride);
+            mLength += length;
+            return;
+        }
+
+        insert(evaluator.toArray(), index);
+    }
+
+    @Override
+    public void clear()
+    {
+        mLength = 0;
+    }
+
+    @Override
+    public void trim()
+    {
+        if (mLength < mCapacity) resize(mLength);
+    }
+
+    @Override
+    public void reverse()
+    {
+        if (mLength < 2) return;
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment buffer = arena.allocate(mStride, mLayout.byteAlignment());
+
+            int left = 0;
+            int right = mLength - 1;
+            while (left < right) {
+                long start = offsetOf(left++);
+                long end = offsetOf(right--);
+
+                MemorySegment.copy(mSegment, start, buffer, 0L, mStride);
+                MemorySegment.copy(mSegment, end, mSegment, start, mStride);
+                MemorySegment.copy(buffer, 0L, mSegment, end, mStride);
+            }
+        }
+    }
+
+    @Override
+    public void pop()
+    {
+        if (mLength > 0) mLength--;
+    }
+
+    @Override
+    public Item evaluate(Eval eval)
+    {
+        int index = evaluateOf(eval);
+        if (index < 0) return null;
+
+        return mCodec.decode(mSegment, offsetOf(index));
+    }
+
+    @Override
+    public Item get(int index)
+    {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException("Array index out of bounds: index="+index + " size="+mLength);
+
+        return mCodec.decode(mSegment, offsetOf(index));
+    }
+
+    @Override
+    public Item acquire()
+    {
+        if (mLength <= 0) return null;
+
+        return mCodec.decode(mSegment, offsetOf(--mLength));
+    }
+
+    @Override
+    public Item acquireFirst()
+    {
+        if (mLength <= 0) return null;
+
+        Item item = mCodec.decode(mSegment, 0L);
+        move(1, 0, --mLength);
+
+        return item;
+    }
+
+    @Override
+    public Item peek()
+    {
+        if (mLength <= 0) return null;
+
+        return mCodec.decode(mSegment, offsetOf(mLength - 1));
+    }
+
+    @Override
+    public Item[] toArray(Class<Item> type)
+    {
+        //noinspection unchecked
+        Item[] items = (Item[])Array.newInstance(type, mLength);
+        for (int i = 0; i < mLength; i++) items[i] = mCodec.decode(mSegment, offsetOf(i));
+
+        return items;
+    }
+
+    @Override
+    public Item[] toArray(Item[] items)
+    {
+        //noinspection unchecked
+        if (items.length < mLength) items = (Item[])Array.newInstance(items.getClass().getComponentType(), mLength);
+
+        for (int i = 0; i < mLength; i++) items[i] = mCodec.decode(mSegment, offsetOf(i));
+        if (items.length > mLength) items[mLength] = null;
+
+        return items;
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] items = new Object[mLength];
+        for (int i = 0; i < mLength; i++) items[i] = mCodec.decode(mSegment, offsetOf(i));
+
+        return items;
+    }
+
+    @Override
+    public int length()
+    {
+        return mLength;
+    }
+
+    @Override
+    public int indexOf(Eval eval)
+    {
+        return evaluateOf(eval);
+    }
+
+    @Override
+    public BitSet matches(Eval eval)
+    {
+        BitSet matches = new BitSet();
+        if (eval == null) return matches;
+
+        for (int i = 0; i < mLength; i++) if (mCodec.toEvaluate(mSegment, offsetOf(i), eval)) matches.set(i);
+
+        return matches;
+    }
+
+    @Override
+    public int count(Eval eval)
+    {
+        if (eval == null) return 0;
+
+        int count = 0;
+        for (int i = 0; i < mLength; i++) if (mCodec.toEvaluate(mSegment, offsetOf(i), eval)) count++;
+
+        return count;
+    }
+
+    @Override
+    public boolean remove(Eval eval)
+    {
+        return remove(evaluateOf(eval));
+    }
+
+    @Override
+    public boolean remove(int index)
+    {
+        if (index < 0 || index >= mLength) return false;
+
+        move(index + 1, index, mLength - index - 1);
+        mLength--;
+
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return mLength <= 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (mLength <= 0) return "[]";
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+        for (int i = 0; i < mLength; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append(mCodec.decode(mSegment, offsetOf(i)));
+        }
+        return builder.append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (!(object instanceof OffHeapEvaluators<?, ?> other)) return false;
+        if (other.mLength != mLength || !other.mLayout.equals(mLayout)) return false;
+        if (mLength == 0) return true;
+
+        long bytes = mLength * mStride;
+        return MemorySegment.mismatch(mSegment, 0L, bytes, other.mSegment, 0L, bytes) < 0;
+    }
+
+    @Override
+    public Evaluator<Eval, Item> clone()
+    {
+        OffHeapEvaluators<Eval, Item> evaluators = new OffHeapEvaluators<>(mLayout, mCodec, mLength);
+        evaluators.pushAll(this);
+
+        return evaluators;
+    }
+
+    /**
+     * Libère la mémoire hors tas. L'instance ne doit plus être utilisée ensuite.
+     */
+    @Override
+    public void close()
+    {
+        if (mArena != null) mArena.close();
+
+        mArena = null;
+        mSegment = MemorySegment.NULL;
+        mCapacity = 0;
+        mLength = 0;
+    }
+
+    /*
+     * La mémoire hors tas n'est pas sérialisable : l'instance est remplacée par une copie immuable des éléments décodés.
+     */
+    @Serial
+    private Object writeReplace()
+    {
+        //noinspection unchecked
+        return new ImmutableEvaluators<>(toArray((Item[])new Evaluator.Evaluable<?>[mLength]));
+    }
+
+    private int evaluateOf(Eval eval)
+    {
+        if (eval == null) return -1;
+
+        final MemorySegment segment = mSegment;
+        for (int i = 0; i < mLength; i++) if (mCodec.toEvaluate(segment, offsetOf(i), eval)) return i;
+
+        return -1;
+    }
+
+    private void insert(Object[] items, int index)
+    {
+        int count = 0;
+        for (Object item : items) if (item != null) count++;
+        if (count == 0) return;
+
+        ensureCapacity(mLength + count);
+        move(index, index + count, mLength - index);
+
+        long offset = offsetOf(index);
+        for (Object item : items)
+        {
+            if (item == null) continue;
+
+            //noinspection unchecked
+            mCodec.encode((Item)item, mSegment, offset);
+            offset += mStride;
+        }
+        mLength += count;
+    }
+
+    /*
+     * Déplace count enregistrements de la position from vers la position to, les plages peuvent se chevaucher.
+     */
+    private void move(int from, int to, int count)
+    {
+        if (count > 0) MemorySegment.copy(mSegment, offsetOf(from), mSegment, offsetOf(to), count * mStride);
+    }
+
+    private long offsetOf(int index)
+    {
+        return index * mStride;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > mCapacity) resize(Math.max(capacity, Math.max(DEFAULT_CAPACITY, mCapacity + (mCapacity >> 1))));
+    }
+
+    private void resize(int capacity)
+    {
+        Arena arena = null;
+        MemorySegment segment = MemorySegment.NULL;
+        if (capacity > 0)
+        {
+            arena = Arena.ofShared();
+            segment = arena.allocate(capacity * mStride, mLayout.byteAlignment());
+            if (mLength > 0) MemorySegment.copy(mSegment, 0L, segment, 0L, mLength * mStride);
+        }
+
+        if (mArena != null) mArena.close();
+
+        mArena = arena;
+        mSegment = segment;
+        mCapacity = capacity;
+    }
+}